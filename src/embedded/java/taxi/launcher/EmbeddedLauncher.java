@@ -0,0 +1,183 @@
+package taxi.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.catalina.Container;
+import org.apache.catalina.Lifecycle;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.core.StandardThreadExecutor;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.lib.Injector;
+
+public class EmbeddedLauncher {
+    private static final Logger logger = LogManager.getLogger(EmbeddedLauncher.class);
+    private static final String JSP_SERVLET = "org.apache.jasper.servlet.JspServlet";
+    private static final String DEFAULT_JSP_SERVLET_NAME = "jsp";
+    private static final int SERVLET_LOAD_ORDER = 1;
+    private static final int JSP_LOAD_ORDER = 2;
+    private final LauncherConfig config;
+    private final Tomcat tomcat = new Tomcat();
+    private ExecutorService virtualThreadExecutor;
+    private long startedAtMillis;
+
+    public EmbeddedLauncher(LauncherConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        EmbeddedLauncher launcher = new EmbeddedLauncher(new LauncherConfig());
+        launcher.start();
+        launcher.reportFirstRequest();
+        launcher.tomcat.getServer().await();
+    }
+
+    public void start() throws LifecycleException, IOException {
+        long begin = System.nanoTime();
+        if (config.isWarmUp()) {
+            int warmed = Injector.getInstance("taxi").warmUp();
+            logger.info("Injector warmed up. Params: instances = {}, took {} ms", warmed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
+        tomcat.setBaseDir(Files.createTempDirectory("taxi-tomcat").toString());
+        tomcat.setConnector(createConnector());
+        File webappDirectory = new File(config.getWebappDirectory()).getAbsoluteFile();
+        StandardContext context = (StandardContext) tomcat.addWebapp("",
+                webappDirectory.getPath());
+        context.setAltDDName(new File(webappDirectory, "web.xml").getPath());
+        context.setParentClassLoader(EmbeddedLauncher.class.getClassLoader());
+        context.addLifecycleListener(event -> {
+            if (Lifecycle.CONFIGURE_START_EVENT.equals(event.getType())) {
+                prepareContext(context, webappDirectory.toPath());
+            }
+        });
+        tomcat.start();
+        startedAtMillis = System.currentTimeMillis();
+        logger.info("Embedded server started. Params: port = {}, took {} ms, {} ms after JVM "
+                + "start", config.getPort(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), uptimeMillis());
+    }
+
+    public void stop() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    public long reportFirstRequest() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + config.getPort() + "/login")).GET().build();
+        long begin = System.nanoTime();
+        HttpResponse<Void> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.discarding());
+        long requestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        long timeToFirstRequest = uptimeMillis();
+        logger.info("First request answered with {}. Params: request took {} ms, "
+                + "{} ms after server start, {} ms after JVM start", response.statusCode(),
+                requestMillis, System.currentTimeMillis() - startedAtMillis, timeToFirstRequest);
+        return timeToFirstRequest;
+    }
+
+    private Connector createConnector() {
+        Connector connector = new Connector("HTTP/1.1");
+        connector.setPort(config.getPort());
+        connector.setProperty("acceptorThreadCount", String.valueOf(config.getAcceptorThreads()));
+        connector.setProperty("acceptCount", String.valueOf(config.getAcceptCount()));
+        connector.setProperty("maxConnections", String.valueOf(config.getMaxConnections()));
+        connector.getProtocolHandler().setExecutor(createExecutor());
+        return connector;
+    }
+
+    private Executor createExecutor() {
+        if (config.isVirtualThreads()) {
+            virtualThreadExecutor = newVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                logger.info("Serving requests on virtual threads.");
+                return virtualThreadExecutor;
+            }
+            logger.warn("Virtual threads are not available on Java {}, "
+                    + "using platform worker threads.", Runtime.version());
+        }
+        StandardThreadExecutor executor = new StandardThreadExecutor();
+        executor.setName("taxi-workers");
+        executor.setNamePrefix("taxi-worker-");
+        executor.setMinSpareThreads(config.getMinWorkerThreads());
+        executor.setMaxThreads(config.getMaxWorkerThreads());
+        executor.setMaxQueueSize(config.getMaxQueueSize());
+        tomcat.getService().addExecutor(executor);
+        logger.info("Serving requests on platform threads. Params: min = {}, max = {}, "
+                + "queue = {}", config.getMinWorkerThreads(), config.getMaxWorkerThreads(),
+                config.getMaxQueueSize());
+        return executor;
+    }
+
+    private void prepareContext(StandardContext context, Path webappDirectory) {
+        for (Container child : context.findChildren()) {
+            Wrapper wrapper = (Wrapper) child;
+            if (wrapper.getLoadOnStartup() < 0) {
+                wrapper.setLoadOnStartup(SERVLET_LOAD_ORDER);
+            }
+        }
+        if (!config.isPrecompileJsp()) {
+            return;
+        }
+        Wrapper jspServlet = (Wrapper) context.findChild(DEFAULT_JSP_SERVLET_NAME);
+        if (jspServlet != null) {
+            jspServlet.addInitParameter("development", "false");
+        }
+        List<String> pages = findPages(webappDirectory);
+        for (String page : pages) {
+            Wrapper wrapper = context.createWrapper();
+            wrapper.setName("precompile:" + page);
+            wrapper.setServletClass(JSP_SERVLET);
+            wrapper.addInitParameter("jspFile", page);
+            wrapper.setLoadOnStartup(JSP_LOAD_ORDER);
+            context.addChild(wrapper);
+        }
+        logger.info("Precompiling JSP pages on startup. Params: pages = {}", pages.size());
+    }
+
+    private static List<String> findPages(Path webappDirectory) {
+        try (Stream<Path> files = Files.walk(webappDirectory)) {
+            return files.filter(file -> file.toString().endsWith(".jsp"))
+                    .map(file -> "/" + webappDirectory.relativize(file).toString()
+                            .replace(File.separatorChar, '/'))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Can't list JSP pages in " + webappDirectory, e);
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
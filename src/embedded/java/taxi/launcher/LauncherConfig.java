@@ -0,0 +1,74 @@
+package taxi.launcher;
+
+public class LauncherConfig {
+    private static final String PREFIX = "taxi.server.";
+    private int port = intProperty("port", 8080);
+    private String webappDirectory = System.getProperty(PREFIX + "webapp", "src/main/webapp");
+    private int acceptorThreads = intProperty("acceptorThreads", 1);
+    private int acceptCount = intProperty("acceptCount", 100);
+    private int maxConnections = intProperty("maxConnections", 8192);
+    private int minWorkerThreads = intProperty("minWorkerThreads", 10);
+    private int maxWorkerThreads = intProperty("maxWorkerThreads", 200);
+    private int maxQueueSize = intProperty("maxQueueSize", Integer.MAX_VALUE);
+    private boolean virtualThreads = booleanProperty("virtualThreads", false);
+    private boolean warmUp = booleanProperty("warmUp", true);
+    private boolean precompileJsp = booleanProperty("precompileJsp", true);
+
+    public int getPort() {
+        return port;
+    }
+
+    public LauncherConfig setPort(int port) {
+        this.port = port;
+        return this;
+    }
+
+    public String getWebappDirectory() {
+        return webappDirectory;
+    }
+
+    public int getAcceptorThreads() {
+        return acceptorThreads;
+    }
+
+    public int getAcceptCount() {
+        return acceptCount;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getMinWorkerThreads() {
+        return minWorkerThreads;
+    }
+
+    public int getMaxWorkerThreads() {
+        return maxWorkerThreads;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    public boolean isPrecompileJsp() {
+        return precompileJsp;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private static boolean booleanProperty(String name, boolean defaultValue) {
+        return Boolean.parseBoolean(System.getProperty(PREFIX + name,
+                String.valueOf(defaultValue)));
+    }
+}
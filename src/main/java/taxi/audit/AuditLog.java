@@ -0,0 +1,214 @@
+package taxi.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.exception.DataProcessingException;
+
+public class AuditLog {
+    private static final Logger logger = LogManager.getLogger(AuditLog.class);
+    private static final int QUEUE_CAPACITY = 65536;
+    private static final int MAX_BATCH = 4096;
+    private static final long IDLE_POLL_MILLIS = 100;
+    private final Path directory;
+    private final long segmentBytes;
+    private final long commitWindowNanos;
+    private final BlockingQueue<AuditRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final LongAdder written = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder lost = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+    private FileChannel channel;
+    private long segmentStart = -1;
+    private long segmentSize;
+    private long lastTimestamp;
+
+    private AuditLog(Path directory, long segmentBytes, long commitWindowMillis) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.commitWindowNanos = TimeUnit.MILLISECONDS.toNanos(commitWindowMillis);
+        writer = new Thread(this::run, "audit-log-writer");
+        writer.setDaemon(true);
+    }
+
+    public static AuditLog open(Path directory, long segmentBytes, long commitWindowMillis) {
+        logger.info("Attempting to open audit log. Params: directory = {}", directory);
+        AuditLog auditLog = new AuditLog(directory, segmentBytes, commitWindowMillis);
+        try {
+            Files.createDirectories(directory);
+            auditLog.recover();
+        } catch (IOException e) {
+            logger.error("Failed to open audit log. Params: directory = {}", directory);
+            throw new DataProcessingException("Can't open audit log in " + directory, e);
+        }
+        auditLog.writer.start();
+        logger.info("Successfully opened audit log. Params: directory = {}", directory);
+        return auditLog;
+    }
+
+    public void append(AuditRecord record) {
+        if (!running) {
+            throw new DataProcessingException("Audit log in " + directory + " is closed", null);
+        }
+        if (!queue.offer(record)) {
+            lost.increment();
+            logger.debug("Audit queue is full, dropping record. Params: record = {}", record);
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getCommitCount() {
+        return commits.sum();
+    }
+
+    public long getLostCount() {
+        return lost.sum();
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Closed audit log. Params: directory = {}, written = {}, commits = {}",
+                directory, written.sum(), commits.sum());
+    }
+
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (running || !queue.isEmpty()) {
+                AuditRecord first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeSegment();
+        }
+    }
+
+    private void collect(List<AuditRecord> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + commitWindowNanos;
+        while (batch.size() < MAX_BATCH) {
+            queue.drainTo(batch, MAX_BATCH - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= MAX_BATCH || remaining <= 0) {
+                return;
+            }
+            AuditRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<AuditRecord> batch) {
+        try {
+            int bytes = 0;
+            for (AuditRecord record : batch) {
+                bytes += record.size();
+            }
+            if (channel == null || segmentSize + bytes > segmentBytes
+                    && segmentSize > AuditSegment.FILE_HEADER_SIZE) {
+                rotate(batch.get(0).getTimestamp());
+            }
+            if (buffer.capacity() < bytes) {
+                buffer = ByteBuffer.allocateDirect(Integer.highestOneBit(bytes) << 1);
+            }
+            buffer.clear();
+            for (AuditRecord record : batch) {
+                lastTimestamp = Math.max(record.getTimestamp(), lastTimestamp);
+                record.write(buffer, lastTimestamp);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            segmentSize += bytes;
+            written.add(batch.size());
+            commits.increment();
+        } catch (IOException e) {
+            lost.add(batch.size());
+            logger.error("Failed to commit audit records. Params: records = {}",
+                    batch.size(), e);
+            closeSegment();
+        }
+    }
+
+    private void rotate(long firstTimestamp) throws IOException {
+        closeSegment();
+        long startTime = Math.max(Math.max(firstTimestamp, lastTimestamp), segmentStart + 1);
+        channel = AuditSegment.create(directory, startTime);
+        segmentStart = startTime;
+        segmentSize = AuditSegment.FILE_HEADER_SIZE;
+        lastTimestamp = startTime;
+        logger.info("Started audit log segment. Params: directory = {}, start time = {}",
+                directory, startTime);
+    }
+
+    private void closeSegment() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.error("Failed to close audit log segment. Params: directory = {}",
+                    directory, e);
+        }
+        channel = null;
+    }
+
+    private void recover() throws IOException {
+        List<AuditSegment> segments = AuditSegment.list(directory);
+        if (segments.isEmpty()) {
+            return;
+        }
+        AuditSegment last = segments.get(segments.size() - 1);
+        long validEnd = last.scan(record ->
+                lastTimestamp = Math.max(record.getTimestamp(), lastTimestamp));
+        segmentStart = last.getStartTime();
+        lastTimestamp = Math.max(lastTimestamp, segmentStart);
+        if (validEnd == 0) {
+            Files.delete(last.getPath());
+            return;
+        }
+        channel = FileChannel.open(last.getPath(), StandardOpenOption.WRITE);
+        channel.truncate(validEnd);
+        channel.position(validEnd);
+        segmentSize = validEnd;
+        logger.info("Recovered audit log segment. Params: file = {}, size = {}",
+                last.getPath(), validEnd);
+    }
+}
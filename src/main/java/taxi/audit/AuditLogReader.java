@@ -0,0 +1,63 @@
+package taxi.audit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.exception.DataProcessingException;
+
+public class AuditLogReader {
+    private static final Logger logger = LogManager.getLogger(AuditLogReader.class);
+    private final Path directory;
+
+    public AuditLogReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            System.out.println("Usage: AuditLogReader <directory> [from] [to]"
+                    + " (ISO-8601 instants, e.g. 2022-03-01T10:00:00Z)");
+            return;
+        }
+        long from = args.length > 1 ? Instant.parse(args[1]).toEpochMilli() : Long.MIN_VALUE;
+        long to = args.length > 2 ? Instant.parse(args[2]).toEpochMilli() : Long.MAX_VALUE;
+        new AuditLogReader(Paths.get(args[0])).scan(from, to, System.out::println);
+    }
+
+    public List<AuditRecord> getAll(long from, long to) {
+        List<AuditRecord> records = new ArrayList<>();
+        scan(from, to, records::add);
+        return records;
+    }
+
+    public void scan(long from, long to, Consumer<AuditRecord> visitor) {
+        logger.info("Attempting to scan audit log. Params: directory = {}, from = {}, to = {}",
+                directory, from, to);
+        try {
+            List<AuditSegment> segments = AuditSegment.list(directory);
+            for (int i = 0; i < segments.size(); i++) {
+                AuditSegment segment = segments.get(i);
+                if (segment.getStartTime() >= to) {
+                    break;
+                }
+                if (i + 1 < segments.size() && segments.get(i + 1).getStartTime() < from) {
+                    continue;
+                }
+                segment.scan(record -> {
+                    if (record.getTimestamp() >= from && record.getTimestamp() < to) {
+                        visitor.accept(record);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            logger.error("Failed to scan audit log. Params: directory = {}", directory);
+            throw new DataProcessingException("Can't scan audit log in " + directory, e);
+        }
+    }
+}
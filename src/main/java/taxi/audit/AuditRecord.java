@@ -0,0 +1,126 @@
+package taxi.audit;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import taxi.lib.ChangeEvent;
+
+public final class AuditRecord {
+    public static final long ANONYMOUS = 0;
+    static final int HEADER_SIZE = 8;
+    private static final int FIXED_BODY_SIZE = 28;
+    private static final ChangeEvent.Entity[] entities = ChangeEvent.Entity.values();
+    private static final ChangeEvent.Operation[] operations = ChangeEvent.Operation.values();
+    private final long timestamp;
+    private final long driverId;
+    private final ChangeEvent.Entity entity;
+    private final ChangeEvent.Operation operation;
+    private final long entityId;
+    private final long[] relatedIds;
+
+    public AuditRecord(long timestamp, long driverId, ChangeEvent.Entity entity,
+                       ChangeEvent.Operation operation, long entityId, long[] relatedIds) {
+        this.timestamp = timestamp;
+        this.driverId = driverId;
+        this.entity = entity;
+        this.operation = operation;
+        this.entityId = entityId;
+        this.relatedIds = relatedIds;
+    }
+
+    public static AuditRecord of(ChangeEvent event, Long driverId, long timestamp) {
+        return new AuditRecord(timestamp, driverId == null ? ANONYMOUS : driverId,
+                event.getEntity(), event.getOperation(),
+                event.getEntityId() == null ? 0 : event.getEntityId(),
+                event.getRelatedIds().stream().mapToLong(Long::longValue).toArray());
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getDriverId() {
+        return driverId;
+    }
+
+    public ChangeEvent.Entity getEntity() {
+        return entity;
+    }
+
+    public ChangeEvent.Operation getOperation() {
+        return operation;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+
+    public long[] getRelatedIds() {
+        return relatedIds.clone();
+    }
+
+    int size() {
+        return HEADER_SIZE + FIXED_BODY_SIZE + relatedIds.length * Long.BYTES;
+    }
+
+    void write(ByteBuffer buffer, long writtenTimestamp) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        buffer.putLong(writtenTimestamp);
+        buffer.putLong(driverId);
+        buffer.put((byte) entity.ordinal());
+        buffer.put((byte) operation.ordinal());
+        buffer.putLong(entityId);
+        buffer.putShort((short) relatedIds.length);
+        for (long relatedId : relatedIds) {
+            buffer.putLong(relatedId);
+        }
+        int end = buffer.position();
+        buffer.putInt(start, end - start - HEADER_SIZE);
+        buffer.putInt(start + Integer.BYTES, checksum(buffer, start + HEADER_SIZE, end));
+    }
+
+    static AuditRecord read(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE + FIXED_BODY_SIZE) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length < FIXED_BODY_SIZE || (length - FIXED_BODY_SIZE) % Long.BYTES != 0
+                || length > buffer.remaining() - HEADER_SIZE) {
+            return null;
+        }
+        int end = start + HEADER_SIZE + length;
+        if (buffer.getInt(start + Integer.BYTES) != checksum(buffer, start + HEADER_SIZE, end)) {
+            return null;
+        }
+        buffer.position(start + HEADER_SIZE);
+        long timestamp = buffer.getLong();
+        long driverId = buffer.getLong();
+        ChangeEvent.Entity entity = entities[buffer.get()];
+        ChangeEvent.Operation operation = operations[buffer.get()];
+        long entityId = buffer.getLong();
+        long[] relatedIds = new long[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < relatedIds.length; i++) {
+            relatedIds[i] = buffer.getLong();
+        }
+        return new AuditRecord(timestamp, driverId, entity, operation, entityId, relatedIds);
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int to) {
+        ByteBuffer body = buffer.duplicate();
+        body.limit(to).position(from);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public String toString() {
+        return Instant.ofEpochMilli(timestamp)
+                + " driver=" + (driverId == ANONYMOUS ? "anonymous" : String.valueOf(driverId))
+                + " " + operation + " " + entity + " " + entityId
+                + (relatedIds.length == 0 ? "" : " related=" + Arrays.toString(relatedIds));
+    }
+}
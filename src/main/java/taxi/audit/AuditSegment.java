@@ -0,0 +1,84 @@
+package taxi.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class AuditSegment {
+    static final int FILE_HEADER_SIZE = 8;
+    private static final int MAGIC = 0x41554454;
+    private static final int VERSION = 1;
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".log";
+    private final Path path;
+    private final long startTime;
+
+    private AuditSegment(Path path, long startTime) {
+        this.path = path;
+        this.startTime = startTime;
+    }
+
+    static List<AuditSegment> list(Path directory) throws IOException {
+        List<AuditSegment> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files =
+                     Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                segments.add(new AuditSegment(file, Long.parseLong(
+                        name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+            }
+        }
+        segments.sort(Comparator.comparingLong(AuditSegment::getStartTime));
+        return segments;
+    }
+
+    static FileChannel create(Path directory, long startTime) throws IOException {
+        Path file = directory.resolve(String.format("%s%013d%s", PREFIX, startTime, SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        return channel;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getStartTime() {
+        return startTime;
+    }
+
+    long scan(Consumer<AuditRecord> visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < FILE_HEADER_SIZE) {
+                return 0;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Audit segment " + path + " has an unknown header");
+            }
+            AuditRecord record;
+            while ((record = AuditRecord.read(buffer)) != null) {
+                visitor.accept(record);
+            }
+            return buffer.position();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package taxi.controller;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.model.LabeledId;
+
+public class LabelPages {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private LabelPages() {
+    }
+
+    public static String parsePrefix(HttpServletRequest req, String name) {
+        String value = req.getParameter(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    public static LabeledId parseAfter(HttpServletRequest req) {
+        String id = req.getParameter("afterId");
+        String label = req.getParameter("afterLabel");
+        if (id == null && label == null) {
+            return null;
+        }
+        if (id == null || label == null) {
+            throw new IllegalArgumentException("afterId and afterLabel go together");
+        }
+        return new LabeledId(Long.parseLong(id), label);
+    }
+
+    public static int parseLimit(HttpServletRequest req) {
+        String value = req.getParameter("limit");
+        int limit = value == null ? DEFAULT_LIMIT : Integer.parseInt(value);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public static void write(HttpServletResponse resp, List<LabeledId> page, int limit)
+            throws IOException {
+        resp.setContentType("application/json;charset=UTF-8");
+        PrintWriter writer = resp.getWriter();
+        writer.print("{\"items\":[");
+        int size = Math.min(page.size(), limit);
+        for (int i = 0; i < size; i++) {
+            LabeledId item = page.get(i);
+            writer.print((i == 0 ? "" : ",") + "{\"id\":" + item.getId()
+                    + ",\"label\":" + quote(item.getLabel()) + '}');
+        }
+        writer.print("],\"next\":");
+        if (page.size() > limit) {
+            LabeledId last = page.get(limit - 1);
+            writer.print("{\"afterId\":" + last.getId()
+                    + ",\"afterLabel\":" + quote(last.getLabel()) + '}');
+        } else {
+            writer.print("null");
+        }
+        writer.print('}');
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -6,15 +6,23 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import taxi.lib.Injector;
+import taxi.service.PresenceService;
 
 public class LogoutController extends HttpServlet {
     private static final Logger logger = LogManager.getLogger(LogoutController.class);
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final PresenceService presenceService = (PresenceService) injector
+            .getInstance(PresenceService.class);
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws IOException {
         Long driverId = (Long) req.getSession().getAttribute("driverId");
         req.getSession().invalidate();
+        if (driverId != null) {
+            presenceService.logout(driverId);
+        }
         logger.info("Driver with id {} logged out.", driverId);
         resp.sendRedirect(req.getContextPath() + "/");
     }
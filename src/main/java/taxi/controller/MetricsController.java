@@ -0,0 +1,75 @@
+package taxi.controller;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.CircuitBreaker;
+import taxi.lib.EventBus;
+import taxi.lib.Injector;
+import taxi.lib.QueryBudget;
+import taxi.lib.ScheduledJob;
+import taxi.lib.Scheduler;
+import taxi.service.AuditService;
+import taxi.service.CarService;
+import taxi.service.LocationIngestionService;
+import taxi.service.PresenceService;
+import taxi.service.ShiftService;
+import taxi.service.ZoneService;
+
+public class MetricsController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final LocationIngestionService locationIngestionService =
+            (LocationIngestionService) injector.getInstance(LocationIngestionService.class);
+    private final CarService carService =
+            (CarService) injector.getInstance(CarService.class);
+    private final AuditService auditService =
+            (AuditService) injector.getInstance(AuditService.class);
+    private final PresenceService presenceService =
+            (PresenceService) injector.getInstance(PresenceService.class);
+    private final ShiftService shiftService =
+            (ShiftService) injector.getInstance(ShiftService.class);
+    private final ZoneService zoneService =
+            (ZoneService) injector.getInstance(ZoneService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        resp.setContentType("text/plain;charset=UTF-8");
+        PrintWriter writer = resp.getWriter();
+        for (CircuitBreaker breaker : CircuitBreaker.getAll()) {
+            writer.println("circuit_breaker_state{dao=\"" + breaker.getName() + "\"} "
+                    + breaker.getState());
+            breaker.getTransitionCounts().forEach((transition, count) ->
+                    writer.println("circuit_breaker_transitions{dao=\"" + breaker.getName()
+                            + "\",transition=\"" + transition + "\"} " + count));
+        }
+        locationIngestionService.getStatistics().forEach((name, value) ->
+                writer.println("location_pings{counter=\"" + name + "\"} " + value));
+        auditService.getStatistics().forEach((name, value) ->
+                writer.println("audit_records{counter=\"" + name + "\"} " + value));
+        carService.getStatistics().forEach((name, value) ->
+                writer.println("driver_cars_cache{counter=\"" + name + "\"} " + value));
+        shiftService.getStatistics().forEach((name, value) ->
+                writer.println("shift_index{counter=\"" + name + "\"} " + value));
+        presenceService.getStatistics().forEach((name, value) ->
+                writer.println("driver_presence{counter=\"" + name + "\"} " + value));
+        zoneService.getStatistics().forEach((name, value) ->
+                writer.println("zone_index{counter=\"" + name + "\"} " + value));
+        zoneService.getCarCounts().forEach((zone, count) ->
+                writer.println("zone_cars{zone=\"" + zone + "\"} " + count));
+        QueryBudget queryBudget = QueryBudget.getInstance();
+        queryBudget.getStatistics().forEach((name, value) ->
+                writer.println("query_budget{counter=\"" + name + "\"} " + value));
+        queryBudget.getOverBudgetCounts().forEach((endpoint, count) ->
+                writer.println("query_budget_exceeded{endpoint=\"" + endpoint + "\"} "
+                        + count));
+        for (ScheduledJob job : Scheduler.getInstance().getJobs()) {
+            job.getStatistics().forEach((name, value) ->
+                    writer.println("scheduler_job{job=\"" + job.getName() + "\",counter=\""
+                            + name + "\"} " + value));
+        }
+        writer.println("event_bus_dropped " + EventBus.getInstance().getDroppedCount());
+    }
+}
@@ -1,13 +1,13 @@
 package taxi.controller.car;
 
 import java.io.IOException;
+import java.util.Set;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import taxi.controller.LabelPages;
 import taxi.lib.Injector;
-import taxi.model.Car;
-import taxi.model.Driver;
 import taxi.service.CarService;
 import taxi.service.DriverService;
 
@@ -21,8 +21,10 @@ public class AddDriverToCarController extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
-        req.setAttribute("cars", carService.getAll());
-        req.setAttribute("drivers", driverService.getAll());
+        req.setAttribute("cars", carService.getLabels(LabelPages.parsePrefix(req, "car"),
+                null, LabelPages.MAX_LIMIT));
+        req.setAttribute("drivers", driverService.getLabels(
+                LabelPages.parsePrefix(req, "driver"), null, LabelPages.MAX_LIMIT));
         req.getRequestDispatcher("/WEB-INF/views/cars/drivers/add.jsp").forward(req, resp);
     }
 
@@ -31,9 +33,7 @@ public class AddDriverToCarController extends HttpServlet {
             throws IOException {
         long driverId = Long.parseLong(req.getParameter("driverId"));
         long carId = Long.parseLong(req.getParameter("carId"));
-        Driver driver = driverService.get(driverId);
-        Car car = carService.get(carId);
-        carService.addDriverToCar(driver, car);
+        carService.assignDrivers(Set.of(carId), Set.of(driverId));
         resp.sendRedirect(req.getContextPath() + "/cars/drivers/add");
     }
 }
@@ -0,0 +1,78 @@
+package taxi.controller.car;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.model.Assignment;
+
+class BulkAssignments {
+    private static final int MAX_IDS = 1000;
+    private static final int MAX_PAIRS = 10000;
+
+    private BulkAssignments() {
+    }
+
+    static Set<Long> parseIds(HttpServletRequest req, String name) {
+        Set<Long> ids = new LinkedHashSet<>();
+        String[] values = req.getParameterValues(name);
+        if (values == null) {
+            return ids;
+        }
+        for (String value : values) {
+            for (String id : value.split(",")) {
+                if (!id.isBlank()) {
+                    ids.add(Long.parseLong(id.trim()));
+                }
+            }
+        }
+        return ids;
+    }
+
+    static String validate(Set<Long> carIds, Set<Long> driverIds) {
+        if (carIds.isEmpty() || driverIds.isEmpty()) {
+            return "carIds and driverIds are required";
+        }
+        if (carIds.size() > MAX_IDS || driverIds.size() > MAX_IDS
+                || carIds.size() * driverIds.size() > MAX_PAIRS) {
+            return "At most " + MAX_IDS + " car ids, " + MAX_IDS + " driver ids and "
+                    + MAX_PAIRS + " pairs per request";
+        }
+        return null;
+    }
+
+    static void write(HttpServletResponse resp, List<Assignment> assignments)
+            throws IOException {
+        int changed = 0;
+        int unchanged = 0;
+        int rejected = 0;
+        for (Assignment assignment : assignments) {
+            switch (assignment.getResult()) {
+                case ASSIGNED:
+                case UNASSIGNED:
+                    changed++;
+                    break;
+                case ALREADY_ASSIGNED:
+                case NOT_ASSIGNED:
+                    unchanged++;
+                    break;
+                default:
+                    rejected++;
+            }
+        }
+        resp.setContentType("application/json;charset=UTF-8");
+        PrintWriter writer = resp.getWriter();
+        writer.print("{\"changed\":" + changed + ",\"unchanged\":" + unchanged
+                + ",\"rejected\":" + rejected + ",\"results\":[");
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment assignment = assignments.get(i);
+            writer.print((i == 0 ? "" : ",") + "{\"carId\":" + assignment.getCarId()
+                    + ",\"driverId\":" + assignment.getDriverId()
+                    + ",\"result\":\"" + assignment.getResult() + "\"}");
+        }
+        writer.print("]}");
+    }
+}
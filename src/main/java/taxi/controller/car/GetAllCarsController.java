@@ -1,13 +1,13 @@
 package taxi.controller.car;
 
 import java.io.IOException;
-import java.util.List;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import taxi.dao.Cursor;
 import taxi.lib.Injector;
-import taxi.model.Car;
+import taxi.model.CarView;
 import taxi.service.CarService;
 
 public class GetAllCarsController extends HttpServlet {
@@ -18,8 +18,9 @@ public class GetAllCarsController extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
-        List<Car> allCars = carService.getAll();
-        req.setAttribute("cars", allCars);
-        req.getRequestDispatcher("/WEB-INF/views/cars/all.jsp").forward(req, resp);
+        try (Cursor<CarView> allCars = carService.streamAllViews()) {
+            req.setAttribute("cars", allCars);
+            req.getRequestDispatcher("/WEB-INF/views/cars/all.jsp").forward(req, resp);
+        }
     }
 }
@@ -0,0 +1,55 @@
+package taxi.controller.car;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.CarEventFeed;
+
+public class GetCarEventsController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private static final long TIMEOUT_MILLIS = 300000;
+    private static final int WRITER_THREADS = 2;
+    private static final String RETRY_MILLIS = "2000";
+    private final CarEventFeed carEventFeed = (CarEventFeed) injector
+            .getInstance(CarEventFeed.class);
+    private final ExecutorService writer = Executors.newFixedThreadPool(WRITER_THREADS,
+            runnable -> {
+                Thread thread = new Thread(runnable, "car-events-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        Long lastEventId;
+        try {
+            String header = req.getHeader("Last-Event-ID");
+            lastEventId = header == null ? null : Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            lastEventId = 0L;
+        }
+        resp.setContentType("text/event-stream;charset=UTF-8");
+        resp.setHeader("Cache-Control", "no-cache");
+        resp.getOutputStream().write(("retry: " + RETRY_MILLIS + "\n\n")
+                .getBytes(StandardCharsets.UTF_8));
+        resp.flushBuffer();
+        AsyncContext asyncContext = req.startAsync();
+        asyncContext.setTimeout(TIMEOUT_MILLIS);
+        SseSubscriber subscriber = new SseSubscriber(asyncContext, carEventFeed, writer);
+        asyncContext.addListener(subscriber);
+        resp.getOutputStream().setWriteListener(subscriber);
+        carEventFeed.subscribe(subscriber, lastEventId);
+    }
+
+    @Override
+    public void destroy() {
+        writer.shutdownNow();
+    }
+}
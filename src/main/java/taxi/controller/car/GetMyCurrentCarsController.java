@@ -8,7 +8,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import taxi.lib.Injector;
-import taxi.model.Car;
+import taxi.model.CarView;
 import taxi.service.CarService;
 
 public class GetMyCurrentCarsController extends HttpServlet {
@@ -21,7 +21,7 @@ public class GetMyCurrentCarsController extends HttpServlet {
             throws ServletException, IOException {
         HttpSession session = req.getSession();
         Long driverId = (Long) session.getAttribute("driverId");
-        List<Car> allByDriver = carService.getAllByDriver(driverId);
+        List<CarView> allByDriver = carService.getAllViewsByDriver(driverId);
         req.setAttribute("cars", allByDriver);
         req.getRequestDispatcher("/WEB-INF/views/cars/all.jsp").forward(req, resp);
     }
@@ -0,0 +1,52 @@
+package taxi.controller.car;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.model.Shift;
+import taxi.service.ShiftService;
+
+public class GetOnShiftDriversController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final ShiftService shiftService = (ShiftService) injector
+            .getInstance(ShiftService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        List<Shift> shifts;
+        try {
+            Long carId = Long.valueOf(req.getParameter("carId"));
+            if (req.getParameter("from") != null || req.getParameter("to") != null) {
+                shifts = shiftService.getAllByCar(carId, Long.parseLong(req.getParameter("from")),
+                        Long.parseLong(req.getParameter("to")));
+            } else {
+                String time = req.getParameter("time");
+                shifts = shiftService.getOnShiftByCar(carId, time == null
+                        ? System.currentTimeMillis() : Long.parseLong(time));
+            }
+        } catch (NumberFormatException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "carId is required, time or from and to must be epoch milliseconds");
+            return;
+        }
+        resp.setContentType("application/json;charset=UTF-8");
+        PrintWriter writer = resp.getWriter();
+        writer.print('[');
+        for (int i = 0; i < shifts.size(); i++) {
+            Shift shift = shifts.get(i);
+            if (i > 0) {
+                writer.print(',');
+            }
+            writer.print("{\"shiftId\":" + shift.getId()
+                    + ",\"driverId\":" + shift.getDriverId()
+                    + ",\"startTime\":" + shift.getStartTime()
+                    + ",\"endTime\":" + shift.getEndTime() + '}');
+        }
+        writer.print(']');
+    }
+}
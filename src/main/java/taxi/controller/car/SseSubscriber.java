@@ -0,0 +1,124 @@
+package taxi.controller.car;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import taxi.model.FeedEvent;
+import taxi.service.CarEventFeed;
+import taxi.service.FeedSubscriber;
+
+class SseSubscriber implements FeedSubscriber, AsyncListener, WriteListener {
+    private static final int BUFFER_CAPACITY = 128;
+    private final BlockingQueue<FeedEvent> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AsyncContext asyncContext;
+    private final CarEventFeed carEventFeed;
+    private final Executor writer;
+    private final ServletOutputStream out;
+    private boolean unflushed;
+
+    SseSubscriber(AsyncContext asyncContext, CarEventFeed carEventFeed, Executor writer)
+            throws IOException {
+        this.asyncContext = asyncContext;
+        this.carEventFeed = carEventFeed;
+        this.writer = writer;
+        this.out = asyncContext.getResponse().getOutputStream();
+    }
+
+    @Override
+    public boolean offer(FeedEvent event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    @Override
+    public int getCapacity() {
+        return BUFFER_CAPACITY;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    @Override
+    public void onWritePossible() {
+        drain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    private synchronized void drain() {
+        draining.set(false);
+        try {
+            while (!closed.get() && out.isReady()) {
+                FeedEvent event = buffer.poll();
+                if (event == null) {
+                    if (!unflushed) {
+                        return;
+                    }
+                    unflushed = false;
+                    out.flush();
+                    continue;
+                }
+                out.write(("id: " + event.getId() + "\nevent: " + event.getType()
+                        + "\ndata: " + event.getData() + "\n\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                unflushed = true;
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        }
+    }
+
+    private void close() {
+        if (closed.compareAndSet(false, true)) {
+            carEventFeed.unsubscribe(this);
+            buffer.clear();
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException expected) {
+                // the container has already completed or recycled the request
+            }
+        }
+    }
+}
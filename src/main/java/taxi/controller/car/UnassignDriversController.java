@@ -0,0 +1,36 @@
+package taxi.controller.car;
+
+import java.io.IOException;
+import java.util.Set;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.CarService;
+
+public class UnassignDriversController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final CarService carService = (CarService) injector
+            .getInstance(CarService.class);
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        Set<Long> carIds;
+        Set<Long> driverIds;
+        try {
+            carIds = BulkAssignments.parseIds(req, "carIds");
+            driverIds = BulkAssignments.parseIds(req, "driverIds");
+        } catch (NumberFormatException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "carIds and driverIds must be comma separated numbers");
+            return;
+        }
+        String error = BulkAssignments.validate(carIds, driverIds);
+        if (error != null) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, error);
+            return;
+        }
+        BulkAssignments.write(resp, carService.unassignDrivers(carIds, driverIds));
+    }
+}
@@ -1,13 +1,13 @@
 package taxi.controller.driver;
 
 import java.io.IOException;
-import java.util.List;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import taxi.dao.Cursor;
 import taxi.lib.Injector;
-import taxi.model.Driver;
+import taxi.model.DriverView;
 import taxi.service.DriverService;
 
 public class GetAllDriversController extends HttpServlet {
@@ -18,8 +18,9 @@ public class GetAllDriversController extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
-        List<Driver> allDrivers = driverService.getAll();
-        req.setAttribute("drivers", allDrivers);
-        req.getRequestDispatcher("/WEB-INF/views/drivers/all.jsp").forward(req, resp);
+        try (Cursor<DriverView> allDrivers = driverService.streamAllViews()) {
+            req.setAttribute("drivers", allDrivers);
+            req.getRequestDispatcher("/WEB-INF/views/drivers/all.jsp").forward(req, resp);
+        }
     }
 }
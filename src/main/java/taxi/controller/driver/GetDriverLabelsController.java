@@ -0,0 +1,32 @@
+package taxi.controller.driver;
+
+import java.io.IOException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.controller.LabelPages;
+import taxi.lib.Injector;
+import taxi.model.LabeledId;
+import taxi.service.DriverService;
+
+public class GetDriverLabelsController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final DriverService driverService = (DriverService) injector
+            .getInstance(DriverService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        LabeledId after;
+        int limit;
+        try {
+            after = LabelPages.parseAfter(req);
+            limit = LabelPages.parseLimit(req);
+        } catch (IllegalArgumentException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        LabelPages.write(resp, driverService.getLabels(LabelPages.parsePrefix(req, "q"), after,
+                limit + 1), limit);
+    }
+}
@@ -0,0 +1,33 @@
+package taxi.controller.driver;
+
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.PresenceService;
+
+public class GetOnlineDriversController extends HttpServlet {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final PresenceService presenceService = (PresenceService) injector
+            .getInstance(PresenceService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        int limit;
+        try {
+            String value = req.getParameter("limit");
+            limit = value == null ? DEFAULT_LIMIT : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "limit must be a number");
+            return;
+        }
+        List<Long> driverIds = presenceService.getOnline(Math.max(0, limit));
+        resp.setContentType("application/json;charset=UTF-8");
+        resp.getWriter().print("{\"count\":" + presenceService.getOnlineCount()
+                + ",\"driverIds\":" + driverIds.toString().replace(" ", "") + '}');
+    }
+}
@@ -0,0 +1,21 @@
+package taxi.controller.driver;
+
+import java.io.IOException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.PresenceService;
+
+public class HeartbeatController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final PresenceService presenceService = (PresenceService) injector
+            .getInstance(PresenceService.class);
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        presenceService.heartbeat((Long) req.getSession().getAttribute("driverId"));
+        resp.setStatus(HttpServletResponse.SC_NO_CONTENT);
+    }
+}
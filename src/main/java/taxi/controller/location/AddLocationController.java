@@ -0,0 +1,59 @@
+package taxi.controller.location;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.model.LocationPing;
+import taxi.service.LocationIngestionService;
+
+public class AddLocationController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private final LocationIngestionService locationIngestionService =
+            (LocationIngestionService) injector.getInstance(LocationIngestionService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        resp.setContentType("text/plain;charset=UTF-8");
+        PrintWriter writer = resp.getWriter();
+        for (Map.Entry<String, Long> entry
+                : locationIngestionService.getStatistics().entrySet()) {
+            writer.println(entry.getKey() + " " + entry.getValue());
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        LocationPing ping;
+        try {
+            String timestamp = req.getParameter("timestamp");
+            ping = new LocationPing(Long.parseLong(req.getParameter("carId")),
+                    Double.parseDouble(req.getParameter("latitude")),
+                    Double.parseDouble(req.getParameter("longitude")),
+                    timestamp == null ? System.currentTimeMillis() : Long.parseLong(timestamp));
+        } catch (NumberFormatException | NullPointerException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "carId, latitude and longitude are required");
+            return;
+        }
+        switch (locationIngestionService.accept(ping)) {
+            case ACCEPTED:
+                resp.setStatus(HttpServletResponse.SC_ACCEPTED);
+                break;
+            case UNKNOWN_CAR:
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND,
+                        "Unknown car id " + ping.getCarId());
+                break;
+            default:
+                resp.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+                resp.sendError(SC_TOO_MANY_REQUESTS, "Location buffer is full");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package taxi.controller.ride;
+
+import java.io.IOException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.SurgePricingService;
+
+public class AddRideRequestController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final SurgePricingService surgePricingService = (SurgePricingService) injector
+            .getInstance(SurgePricingService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        writeMultiplier(req, resp, false);
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        writeMultiplier(req, resp, true);
+    }
+
+    private void writeMultiplier(HttpServletRequest req, HttpServletResponse resp,
+                                 boolean recordRequest) throws IOException {
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(req.getParameter("latitude"));
+            longitude = Double.parseDouble(req.getParameter("longitude"));
+        } catch (NumberFormatException | NullPointerException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "latitude and longitude are required");
+            return;
+        }
+        if (recordRequest) {
+            surgePricingService.recordRideRequest(latitude, longitude);
+        }
+        resp.setContentType("application/json;charset=UTF-8");
+        resp.getWriter().print("{\"multiplier\":"
+                + surgePricingService.getMultiplier(latitude, longitude) + '}');
+    }
+}
@@ -0,0 +1,42 @@
+package taxi.controller.shift;
+
+import java.io.IOException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.model.Shift;
+import taxi.service.ShiftService;
+
+public class AddShiftController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final ShiftService shiftService = (ShiftService) injector
+            .getInstance(ShiftService.class);
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        String driverId = req.getParameter("driverId");
+        Shift shift;
+        try {
+            shift = new Shift(driverId == null
+                    ? (Long) req.getSession().getAttribute("driverId")
+                    : Long.valueOf(driverId),
+                    Long.parseLong(req.getParameter("startTime")),
+                    Long.parseLong(req.getParameter("endTime")));
+        } catch (NumberFormatException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "startTime and endTime must be epoch milliseconds");
+            return;
+        }
+        if (shift.getEndTime() <= shift.getStartTime()) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "endTime must be after startTime");
+            return;
+        }
+        shiftService.create(shift);
+        resp.setStatus(HttpServletResponse.SC_CREATED);
+        resp.setContentType("application/json;charset=UTF-8");
+        resp.getWriter().print("{\"id\":" + shift.getId() + '}');
+    }
+}
@@ -0,0 +1,29 @@
+package taxi.controller.shift;
+
+import java.io.IOException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.ShiftService;
+
+public class DeleteShiftController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final ShiftService shiftService = (ShiftService) injector
+            .getInstance(ShiftService.class);
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        long id;
+        try {
+            id = Long.parseLong(req.getParameter("id"));
+        } catch (NumberFormatException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "id is required");
+            return;
+        }
+        resp.setStatus(shiftService.delete(id)
+                ? HttpServletResponse.SC_NO_CONTENT
+                : HttpServletResponse.SC_NOT_FOUND);
+    }
+}
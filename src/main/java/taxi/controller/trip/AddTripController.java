@@ -0,0 +1,64 @@
+package taxi.controller.trip;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.model.Trip;
+import taxi.service.CarService;
+import taxi.service.DriverService;
+import taxi.service.TripService;
+
+public class AddTripController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final TripService tripService = (TripService) injector
+            .getInstance(TripService.class);
+    private final CarService carService = (CarService) injector
+            .getInstance(CarService.class);
+    private final DriverService driverService = (DriverService) injector
+            .getInstance(DriverService.class);
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        Long sessionDriverId = (Long) req.getSession().getAttribute("driverId");
+        String driverId = req.getParameter("driverId");
+        Trip trip;
+        try {
+            trip = new Trip(Long.parseLong(req.getParameter("carId")),
+                    driverId == null ? sessionDriverId : Long.valueOf(driverId),
+                    Long.parseLong(req.getParameter("startTime")),
+                    Long.parseLong(req.getParameter("endTime")),
+                    Double.parseDouble(req.getParameter("startLatitude")),
+                    Double.parseDouble(req.getParameter("startLongitude")),
+                    Double.parseDouble(req.getParameter("endLatitude")),
+                    Double.parseDouble(req.getParameter("endLongitude")),
+                    Long.parseLong(req.getParameter("fareCents")));
+        } catch (NumberFormatException | NullPointerException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "All trip fields are required");
+            return;
+        }
+        if (!sessionDriverId.equals(trip.getDriverId())) {
+            resp.sendError(HttpServletResponse.SC_FORBIDDEN,
+                    "Trips can only be recorded for the logged in driver");
+            return;
+        }
+        if (trip.getEndTime() < trip.getStartTime()) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "endTime must not be before startTime");
+            return;
+        }
+        try {
+            carService.get(trip.getCarId());
+            driverService.get(trip.getDriverId());
+        } catch (NoSuchElementException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "Unknown car id " + trip.getCarId() + " or driver id " + trip.getDriverId());
+            return;
+        }
+        tripService.record(trip);
+        resp.setStatus(HttpServletResponse.SC_CREATED);
+    }
+}
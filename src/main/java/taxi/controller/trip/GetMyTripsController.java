@@ -0,0 +1,52 @@
+package taxi.controller.trip;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.model.Trip;
+import taxi.service.TripService;
+
+public class GetMyTripsController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final TripService tripService = (TripService) injector
+            .getInstance(TripService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        Long driverId = (Long) req.getSession().getAttribute("driverId");
+        long from;
+        long to;
+        try {
+            from = Long.parseLong(req.getParameter("from"));
+            to = Long.parseLong(req.getParameter("to"));
+        } catch (NumberFormatException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "from and to must be epoch milliseconds");
+            return;
+        }
+        List<Trip> trips = tripService.getAllByDriver(driverId, from, to);
+        resp.setContentType("application/json;charset=UTF-8");
+        PrintWriter writer = resp.getWriter();
+        writer.print('[');
+        for (int i = 0; i < trips.size(); i++) {
+            Trip trip = trips.get(i);
+            if (i > 0) {
+                writer.print(',');
+            }
+            writer.print("{\"carId\":" + trip.getCarId()
+                    + ",\"startTime\":" + trip.getStartTime()
+                    + ",\"endTime\":" + trip.getEndTime()
+                    + ",\"startLatitude\":" + trip.getStartLatitude()
+                    + ",\"startLongitude\":" + trip.getStartLongitude()
+                    + ",\"endLatitude\":" + trip.getEndLatitude()
+                    + ",\"endLongitude\":" + trip.getEndLongitude()
+                    + ",\"fareCents\":" + trip.getFareCents() + '}');
+        }
+        writer.print(']');
+    }
+}
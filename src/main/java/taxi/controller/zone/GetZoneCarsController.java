@@ -0,0 +1,39 @@
+package taxi.controller.zone;
+
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.ZoneService;
+
+public class GetZoneCarsController extends HttpServlet {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final ZoneService zoneService =
+            (ZoneService) injector.getInstance(ZoneService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        String zone = req.getParameter("zone");
+        int limit;
+        try {
+            String value = req.getParameter("limit");
+            limit = value == null ? DEFAULT_LIMIT : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "limit must be a number");
+            return;
+        }
+        Integer count = zone == null ? null : zoneService.getCarCounts().get(zone);
+        if (count == null) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND, "Unknown zone " + zone);
+            return;
+        }
+        List<Long> carIds = zoneService.getCarIds(zone, limit);
+        resp.setContentType("application/json;charset=UTF-8");
+        resp.getWriter().print("{\"zone\":\"" + zone + "\",\"count\":" + count
+                + ",\"carIds\":" + carIds.toString().replace(" ", "") + '}');
+    }
+}
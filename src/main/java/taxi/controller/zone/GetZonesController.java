@@ -0,0 +1,34 @@
+package taxi.controller.zone;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import taxi.lib.Injector;
+import taxi.service.ZoneService;
+
+public class GetZonesController extends HttpServlet {
+    private static final Injector injector = Injector.getInstance("taxi");
+    private final ZoneService zoneService =
+            (ZoneService) injector.getInstance(ZoneService.class);
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        resp.setContentType("application/json;charset=UTF-8");
+        PrintWriter writer = resp.getWriter();
+        writer.print('[');
+        boolean first = true;
+        for (Map.Entry<String, Integer> entry : zoneService.getCarCounts().entrySet()) {
+            if (!first) {
+                writer.print(',');
+            }
+            first = false;
+            writer.print("{\"name\":\"" + entry.getKey() + "\",\"cars\":" + entry.getValue()
+                    + '}');
+        }
+        writer.print(']');
+    }
+}
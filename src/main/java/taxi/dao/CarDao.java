@@ -1,8 +1,28 @@
 package taxi.dao;
 
 import java.util.List;
+import java.util.Set;
+import taxi.model.Assignment;
 import taxi.model.Car;
+import taxi.model.CarView;
+import taxi.model.LabeledId;
 
 public interface CarDao extends GenericDao<Car> {
     List<Car> getAllByDriver(Long driverId);
+
+    List<CarView> getAllViews();
+
+    Cursor<CarView> streamAllViews();
+
+    List<CarView> getAllViewsByDriver(Long driverId);
+
+    List<LabeledId> getLabels(String prefix, LabeledId after, int limit);
+
+    List<Long> getAllIds();
+
+    List<Long> getAllIdsWithDrivers();
+
+    List<Assignment> assignDrivers(Set<Long> carIds, Set<Long> driverIds);
+
+    List<Assignment> unassignDrivers(Set<Long> carIds, Set<Long> driverIds);
 }
@@ -6,16 +6,31 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import taxi.dao.mapper.CarMapper;
+import taxi.dao.mapper.CarViewMapper;
+import taxi.dao.mapper.DriverMapper;
+import taxi.dao.mapper.RowMapper;
 import taxi.exception.DataProcessingException;
+import taxi.exception.OptimisticLockException;
+import taxi.lib.ChangeEvent;
 import taxi.lib.Dao;
+import taxi.lib.EventBus;
+import taxi.lib.IdentityMap;
+import taxi.model.Assignment;
 import taxi.model.Car;
+import taxi.model.CarView;
 import taxi.model.Driver;
-import taxi.model.Manufacturer;
+import taxi.model.LabeledId;
 import taxi.util.ConnectionUtil;
 
 @Dao
@@ -23,6 +38,22 @@ public class CarDaoImpl implements CarDao {
     private static final int ZERO_PLACEHOLDER = 0;
     private static final int SHIFT = 2;
     private static final Logger logger = LogManager.getLogger(CarDaoImpl.class);
+    private static final EventBus eventBus = EventBus.getInstance();
+    private static final RowMapper<Car> carMapper = new CarMapper();
+    private static final RowMapper<Driver> driverMapper = new DriverMapper();
+    private static final CarViewMapper carViewMapper = new CarViewMapper();
+    private static final String VIEW_COLUMNS = "SELECT STRAIGHT_JOIN c.id AS id, "
+            + "c.model AS model, "
+            + "c.manufacturer_id AS manufacturer_id, "
+            + "m.name AS manufacturer_name, "
+            + "m.country AS manufacturer_country, "
+            + "d.id AS driver_id, "
+            + "d.name AS driver_name, "
+            + "d.license_number AS driver_license_number, "
+            + "d.login AS driver_login ";
+    private static final String VIEW_JOINS = " JOIN manufacturers m ON c.manufacturer_id = m.id"
+            + " LEFT JOIN cars_drivers cd ON c.id = cd.car_id"
+            + " LEFT JOIN drivers d ON cd.driver_id = d.id AND d.is_deleted = FALSE";
 
     @Override
     public Car create(Car car) {
@@ -41,12 +72,13 @@ public class CarDaoImpl implements CarDao {
             if (resultSet.next()) {
                 car.setId(resultSet.getObject(1, Long.class));
             }
+            insertAllDrivers(connection, car);
         } catch (SQLException e) {
             logger.error("Failed to add car to DB. Params: car model = {}, car manufacturer = {}",
                     car.getModel(), car.getManufacturer().getName());
             throw new DataProcessingException("Can't create car " + car, e);
         }
-        insertAllDrivers(car);
+        publish(car, ChangeEvent.Operation.CREATE);
         logger.info("Successfully added car to DB.Params: car model = {}, car manufacturer = {}",
                 car.getModel(), car.getManufacturer().getName());
         return car;
@@ -55,8 +87,13 @@ public class CarDaoImpl implements CarDao {
     @Override
     public Optional<Car> get(Long id) {
         logger.info("Attempting to get car from DB. Params: car id = {}", id);
+        Car cached = IdentityMap.get(Car.class, id);
+        if (cached != null && cached.getDrivers() != null) {
+            return Optional.of(cached);
+        }
         String query = "SELECT c.id AS id, "
                 + "model, "
+                + "c.version AS version, "
                 + "manufacturer_id, "
                 + "m.name AS manufacturer_name, "
                 + "m.country AS manufacturer_country "
@@ -68,15 +105,12 @@ public class CarDaoImpl implements CarDao {
                 PreparedStatement statement =
                         connection.prepareStatement(query)) {
             statement.setLong(1, id);
-            ResultSet resultSet = statement.executeQuery();
-            if (resultSet.next()) {
-                car = parseCarFromResultSet(resultSet);
-            }
+            car = carMapper.mapFirst(statement.executeQuery()).orElse(null);
         } catch (SQLException e) {
             logger.error("Failed to fetch car from DB. Params: car id = {}", id);
             throw new DataProcessingException("Can't get car by id: " + id, e);
         }
-        if (car != null) {
+        if (car != null && car.getDrivers() == null) {
             car.setDrivers(getAllDriversByCarId(car.getId()));
         }
         logger.info("Successfully fetched car from DB. Params: car id = {}", id);
@@ -88,47 +122,63 @@ public class CarDaoImpl implements CarDao {
         logger.info("Attempting to fetch all cars from DB.");
         String query = "SELECT c.id AS id, "
                 + "model, "
+                + "c.version AS version, "
                 + "manufacturer_id, "
                 + "m.name AS manufacturer_name, "
                 + "m.country AS manufacturer_country "
                 + "FROM cars c"
                 + " JOIN manufacturers m ON c.manufacturer_id = m.id"
                 + " WHERE c.is_deleted = FALSE";
-        List<Car> cars = new ArrayList<>();
+        List<Car> cars;
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement =
                         connection.prepareStatement(query)) {
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                cars.add(parseCarFromResultSet(resultSet));
-            }
+            cars = carMapper.mapAll(statement.executeQuery());
         } catch (SQLException e) {
             logger.error("Failed to fetch all cars from DB.");
             throw new DataProcessingException("Can't get all cars", e);
         }
-        cars.forEach(car -> car.setDrivers(getAllDriversByCarId(car.getId())));
+        cars.stream()
+                .filter(car -> car.getDrivers() == null)
+                .forEach(car -> car.setDrivers(getAllDriversByCarId(car.getId())));
         logger.info("Successfully fetched all car from DB.");
         return cars;
     }
 
     @Override
     public Car update(Car car) {
-        logger.info("Attempting to update car in DB. Params: car id = {}", car.getId());
-        String query = "UPDATE cars SET model = ?, manufacturer_id = ? WHERE id = ?"
-                + " AND is_deleted = FALSE";
-        try (Connection connection = ConnectionUtil.getConnection();
-                PreparedStatement statement =
-                        connection.prepareStatement(query)) {
-            statement.setString(1, car.getModel());
-            statement.setLong(2, car.getManufacturer().getId());
-            statement.setLong(3, car.getId());
-            statement.executeUpdate();
+        logger.info("Attempting to update car in DB. Params: car id = {}, version = {}",
+                car.getId(), car.getVersion());
+        IdentityMap.evict(Car.class, car.getId());
+        String query = "UPDATE cars SET model = ?, manufacturer_id = ?, version = version + 1"
+                + " WHERE id = ? AND version = ? AND is_deleted = FALSE";
+        try (Connection connection = ConnectionUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                statement.setString(1, car.getModel());
+                statement.setLong(2, car.getManufacturer().getId());
+                statement.setLong(3, car.getId());
+                statement.setLong(4, car.getVersion());
+                if (statement.executeUpdate() == 0) {
+                    connection.rollback();
+                    logger.warn("Car was changed or deleted concurrently. "
+                            + "Params: car id = {}, version = {}", car.getId(), car.getVersion());
+                    throw new OptimisticLockException("Car " + car.getId() + " with version "
+                            + car.getVersion() + " was changed or deleted concurrently");
+                }
+                deleteAllDriversExceptList(connection, car);
+                insertAllDrivers(connection, car);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             logger.error("Failed to update car in DB. Params: car id = {}", car.getId());
             throw new DataProcessingException("Can't update car " + car, e);
         }
-        deleteAllDriversExceptList(car);
-        insertAllDrivers(car);
+        car.setVersion(car.getVersion() + 1);
+        publish(car, ChangeEvent.Operation.UPDATE);
         logger.info("Successfully updated car in DB. Params: car id = {}", car.getId());
         return car;
     }
@@ -136,14 +186,20 @@ public class CarDaoImpl implements CarDao {
     @Override
     public boolean delete(Long id) {
         logger.info("Attempting to delete car from DB. Params: car id = {}", id);
+        IdentityMap.evict(Car.class, id);
         String query = "UPDATE cars SET is_deleted = TRUE WHERE id = ?"
                 + " AND is_deleted = FALSE";
         try (Connection connection = ConnectionUtil.getConnection();
                  PreparedStatement statement =
                          connection.prepareStatement(query)) {
             statement.setLong(1, id);
+            boolean deleted = statement.executeUpdate() > 0;
+            if (deleted) {
+                eventBus.publish(new ChangeEvent(ChangeEvent.Entity.CAR, id,
+                        ChangeEvent.Operation.DELETE));
+            }
             logger.info("Successfully deleted car from DB. Params: car id = {}", id);
-            return statement.executeUpdate() > 0;
+            return deleted;
         } catch (SQLException e) {
             logger.error("Failed to delete car from DB. Params: car id = {}", id);
             throw new DataProcessingException("Can't delete car by id " + id, e);
@@ -155,6 +211,7 @@ public class CarDaoImpl implements CarDao {
         logger.info("Attempting to fetch all cars by driver. Params: driver id = {}", driverId);
         String query = "SELECT c.id AS id, "
                 + "model, "
+                + "c.version AS version, "
                 + "manufacturer_id, "
                 + "m.name AS manufacturer_name, "
                 + "m.country AS manufacturer_country "
@@ -164,25 +221,305 @@ public class CarDaoImpl implements CarDao {
                 + " JOIN drivers d ON cd.driver_id = d.id"
                 + " WHERE c.is_deleted = FALSE AND driver_id = ?"
                 + " AND d.is_deleted = FALSE";
-        List<Car> cars = new ArrayList<>();
+        List<Car> cars;
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement =
                         connection.prepareStatement(query)) {
             statement.setLong(1, driverId);
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                cars.add(parseCarFromResultSet(resultSet));
-            }
+            cars = carMapper.mapAll(statement.executeQuery());
         } catch (SQLException e) {
             logger.error("Failed to fetch all cars by driver. Params: driver id = {}", driverId);
             throw new DataProcessingException("Can't get all cars", e);
         }
-        cars.forEach(car -> car.setDrivers(getAllDriversByCarId(car.getId())));
+        cars.stream()
+                .filter(car -> car.getDrivers() == null)
+                .forEach(car -> car.setDrivers(getAllDriversByCarId(car.getId())));
         logger.info("Successfully fetched all cars by driver. Params: driver id = {}", driverId);
         return cars;
     }
 
-    private void insertAllDrivers(Car car) {
+    @Override
+    public List<CarView> getAllViews() {
+        logger.info("Attempting to fetch all car views from DB.");
+        String query = VIEW_COLUMNS + "FROM cars c FORCE INDEX (PRIMARY)" + VIEW_JOINS
+                + " WHERE c.is_deleted = FALSE ORDER BY c.id";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement =
+                        connection.prepareStatement(query)) {
+            List<CarView> cars = carViewMapper.mapAll(statement.executeQuery());
+            logger.info("Successfully fetched all car views from DB. Params: count = {}",
+                    cars.size());
+            return cars;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch all car views from DB.");
+            throw new DataProcessingException("Can't get all car views", e);
+        }
+    }
+
+    @Override
+    public Cursor<CarView> streamAllViews() {
+        logger.info("Attempting to open car view cursor.");
+        String query = VIEW_COLUMNS + "FROM cars c FORCE INDEX (PRIMARY)" + VIEW_JOINS
+                + " WHERE c.is_deleted = FALSE ORDER BY c.id";
+        try {
+            Cursor<CarView> cursor = ResultSetCursor.open(query, carViewMapper::fetcher);
+            logger.info("Successfully opened car view cursor.");
+            return cursor;
+        } catch (SQLException e) {
+            logger.error("Failed to open car view cursor.");
+            throw new DataProcessingException("Can't stream all car views", e);
+        }
+    }
+
+    @Override
+    public List<CarView> getAllViewsByDriver(Long driverId) {
+        logger.info("Attempting to fetch car views by driver. Params: driver id = {}", driverId);
+        String query = VIEW_COLUMNS + "FROM cars_drivers dc"
+                + " JOIN drivers rd ON dc.driver_id = rd.id JOIN cars c ON dc.car_id = c.id"
+                + VIEW_JOINS + " WHERE dc.driver_id = ? AND rd.is_deleted = FALSE"
+                + " AND c.is_deleted = FALSE ORDER BY dc.car_id";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement =
+                        connection.prepareStatement(query)) {
+            statement.setLong(1, driverId);
+            List<CarView> cars = carViewMapper.mapAll(statement.executeQuery());
+            logger.info("Successfully fetched car views by driver. Params: driver id = {}",
+                    driverId);
+            return cars;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch car views by driver. Params: driver id = {}",
+                    driverId);
+            throw new DataProcessingException("Can't get car views by driver " + driverId, e);
+        }
+    }
+
+    @Override
+    public List<LabeledId> getLabels(String prefix, LabeledId after, int limit) {
+        logger.info("Attempting to fetch car labels from DB. "
+                + "Params: prefix = {}, after = {}, limit = {}", prefix, after, limit);
+        try {
+            List<LabeledId> labels = LabelQuery.fetch("cars", "model", prefix, after, limit);
+            logger.info("Successfully fetched car labels from DB. "
+                    + "Params: prefix = {}, after = {}, limit = {}", prefix, after, limit);
+            return labels;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch car labels from DB. "
+                    + "Params: prefix = {}, after = {}, limit = {}", prefix, after, limit);
+            throw new DataProcessingException("Couldn't get car labels starting with "
+                    + prefix + " after " + after, e);
+        }
+    }
+
+    @Override
+    public List<Long> getAllIds() {
+        logger.info("Attempting to fetch all car ids from DB.");
+        String query = "SELECT id FROM cars WHERE is_deleted = FALSE";
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement =
+                        connection.prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to fetch all car ids from DB.");
+            throw new DataProcessingException("Can't get all car ids", e);
+        }
+        logger.info("Successfully fetched all car ids from DB.");
+        return ids;
+    }
+
+    @Override
+    public List<Long> getAllIdsWithDrivers() {
+        logger.info("Attempting to fetch ids of cars with drivers from DB.");
+        String query = "SELECT c.id FROM cars c WHERE c.is_deleted = FALSE AND EXISTS"
+                + " (SELECT 1 FROM cars_drivers cd JOIN drivers d ON cd.driver_id = d.id"
+                + " WHERE cd.car_id = c.id AND d.is_deleted = FALSE)";
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement =
+                        connection.prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to fetch ids of cars with drivers from DB.");
+            throw new DataProcessingException("Can't get ids of cars with drivers", e);
+        }
+        logger.info("Successfully fetched ids of cars with drivers from DB.");
+        return ids;
+    }
+
+    @Override
+    public List<Assignment> assignDrivers(Set<Long> carIds, Set<Long> driverIds) {
+        return changeAssignments(carIds, driverIds, true);
+    }
+
+    @Override
+    public List<Assignment> unassignDrivers(Set<Long> carIds, Set<Long> driverIds) {
+        return changeAssignments(carIds, driverIds, false);
+    }
+
+    private List<Assignment> changeAssignments(Set<Long> carIds, Set<Long> driverIds,
+                                               boolean assign) {
+        String action = assign ? "assign" : "unassign";
+        logger.info("Attempting to {} drivers in bulk. Params: cars count = {}, "
+                + "drivers count = {}", action, carIds.size(), driverIds.size());
+        List<Assignment> assignments = new ArrayList<>();
+        Map<Long, List<Long>> changedCars = new HashMap<>();
+        if (carIds.isEmpty() || driverIds.isEmpty()) {
+            return assignments;
+        }
+        try (Connection connection = ConnectionUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                Set<Long> cars = selectIds(connection, "SELECT id FROM cars"
+                        + " WHERE is_deleted = FALSE AND id IN " + placeholders(carIds.size())
+                        + " FOR UPDATE", carIds);
+                Set<Long> drivers = selectIds(connection, "SELECT id FROM drivers"
+                        + " WHERE is_deleted = FALSE AND id IN "
+                        + placeholders(driverIds.size()) + " LOCK IN SHARE MODE", driverIds);
+                Set<List<Long>> existing = selectPairs(connection, cars, drivers);
+                String query = assign
+                        ? "INSERT IGNORE INTO cars_drivers (car_id, driver_id) VALUES (?, ?)"
+                        : "DELETE FROM cars_drivers WHERE car_id = ? AND driver_id = ?";
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    for (Long carId : carIds) {
+                        for (Long driverId : driverIds) {
+                            Assignment.Result result = resultOf(cars.contains(carId),
+                                    drivers.contains(driverId),
+                                    existing.contains(List.of(carId, driverId)), assign);
+                            assignments.add(new Assignment(carId, driverId, result));
+                            if (result == Assignment.Result.ASSIGNED
+                                    || result == Assignment.Result.UNASSIGNED) {
+                                statement.setLong(1, carId);
+                                statement.setLong(2, driverId);
+                                statement.addBatch();
+                                changedCars.put(carId, new ArrayList<>());
+                            }
+                        }
+                    }
+                    if (!changedCars.isEmpty()) {
+                        statement.executeBatch();
+                    }
+                }
+                if (!changedCars.isEmpty()) {
+                    bumpVersions(connection, changedCars.keySet());
+                    loadDriverIds(connection, changedCars);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to {} drivers in bulk. Params: cars count = {}, "
+                    + "drivers count = {}", action, carIds.size(), driverIds.size());
+            throw new DataProcessingException("Can't " + action + " " + driverIds.size()
+                    + " drivers for " + carIds.size() + " cars", e);
+        }
+        changedCars.forEach((carId, carDriverIds) -> {
+            IdentityMap.evict(Car.class, carId);
+            eventBus.publish(new ChangeEvent(ChangeEvent.Entity.CAR, carId,
+                    ChangeEvent.Operation.UPDATE, carDriverIds));
+        });
+        logger.info("Successfully {}ed drivers in bulk. Params: pairs count = {}, "
+                + "changed cars count = {}", action, assignments.size(), changedCars.size());
+        return assignments;
+    }
+
+    private Assignment.Result resultOf(boolean knownCar, boolean knownDriver, boolean assigned,
+                                       boolean assign) {
+        if (!knownCar) {
+            return Assignment.Result.UNKNOWN_CAR;
+        }
+        if (!knownDriver) {
+            return Assignment.Result.UNKNOWN_DRIVER;
+        }
+        if (assign) {
+            return assigned ? Assignment.Result.ALREADY_ASSIGNED : Assignment.Result.ASSIGNED;
+        }
+        return assigned ? Assignment.Result.UNASSIGNED : Assignment.Result.NOT_ASSIGNED;
+    }
+
+    private Set<Long> selectIds(Connection connection, String query, Collection<Long> ids)
+            throws SQLException {
+        Set<Long> found = new HashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            int index = 1;
+            for (Long id : ids) {
+                statement.setLong(index++, id);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                found.add(resultSet.getLong(1));
+            }
+        }
+        return found;
+    }
+
+    private Set<List<Long>> selectPairs(Connection connection, Set<Long> carIds,
+                                        Set<Long> driverIds) throws SQLException {
+        Set<List<Long>> pairs = new HashSet<>();
+        if (carIds.isEmpty() || driverIds.isEmpty()) {
+            return pairs;
+        }
+        String query = "SELECT car_id, driver_id FROM cars_drivers WHERE car_id IN "
+                + placeholders(carIds.size()) + " AND driver_id IN "
+                + placeholders(driverIds.size());
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            int index = 1;
+            for (Long carId : carIds) {
+                statement.setLong(index++, carId);
+            }
+            for (Long driverId : driverIds) {
+                statement.setLong(index++, driverId);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                pairs.add(List.of(resultSet.getLong(1), resultSet.getLong(2)));
+            }
+        }
+        return pairs;
+    }
+
+    private void bumpVersions(Connection connection, Set<Long> carIds) throws SQLException {
+        String query = "UPDATE cars SET version = version + 1 WHERE id IN "
+                + placeholders(carIds.size());
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            int index = 1;
+            for (Long carId : carIds) {
+                statement.setLong(index++, carId);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private void loadDriverIds(Connection connection, Map<Long, List<Long>> driverIdsByCar)
+            throws SQLException {
+        String query = "SELECT cd.car_id, cd.driver_id FROM cars_drivers cd"
+                + " JOIN drivers d ON cd.driver_id = d.id"
+                + " WHERE d.is_deleted = FALSE AND cd.car_id IN "
+                + placeholders(driverIdsByCar.size());
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            int index = 1;
+            for (Long carId : driverIdsByCar.keySet()) {
+                statement.setLong(index++, carId);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                driverIdsByCar.get(resultSet.getLong(1)).add(resultSet.getLong(2));
+            }
+        }
+    }
+
+    private static String placeholders(int count) {
+        return "(?" + ", ?".repeat(count - 1) + ")";
+    }
+
+    private void insertAllDrivers(Connection connection, Car car) throws SQLException {
         logger.info("Attempting to add drivers to car. Params: car id = {}", car.getId());
         Long carId = car.getId();
         List<Driver> drivers = car.getDrivers();
@@ -192,9 +529,7 @@ public class CarDaoImpl implements CarDao {
         String query = "INSERT INTO cars_drivers (car_id, driver_id) VALUES "
                 + drivers.stream().map(driver -> "(?, ?)").collect(Collectors.joining(", "))
                 + " ON DUPLICATE KEY UPDATE car_id = car_id";
-        try (Connection connection = ConnectionUtil.getConnection();
-                PreparedStatement statement =
-                        connection.prepareStatement(query)) {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
             for (int i = 0; i < drivers.size(); i++) {
                 Driver driver = drivers.get(i);
                 statement.setLong((i * SHIFT) + 1, carId);
@@ -204,11 +539,12 @@ public class CarDaoImpl implements CarDao {
             logger.info("Successfully added drivers to car. Params: car id = {}", car.getId());
         } catch (SQLException e) {
             logger.error("Failed to add drivers to car. Params: car id = {}", car.getId());
-            throw new DataProcessingException("Can't insert drivers " + drivers, e);
+            throw e;
         }
     }
 
-    private void deleteAllDriversExceptList(Car car) {
+    private void deleteAllDriversExceptList(Connection connection, Car car)
+            throws SQLException {
         logger.info("Attempting to delete drivers from car. Params: car id = {}", car.getId());
         Long carId = car.getId();
         List<Driver> exceptions = car.getDrivers();
@@ -217,9 +553,7 @@ public class CarDaoImpl implements CarDao {
                 + "AND NOT driver_id IN ("
                 + ZERO_PLACEHOLDER + ", ?".repeat(size)
                 + ");";
-        try (Connection connection = ConnectionUtil.getConnection();
-                PreparedStatement statement =
-                        connection.prepareStatement(query)) {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setLong(1, carId);
             for (int i = 0; i < size; i++) {
                 Driver driver = exceptions.get(i);
@@ -229,13 +563,13 @@ public class CarDaoImpl implements CarDao {
             logger.info("Successfully deleted drivers from car. Params: car id = {}", car.getId());
         } catch (SQLException e) {
             logger.error("Failed to delete drivers from car. Params: car id = {}", car.getId());
-            throw new DataProcessingException("Can't delete drivers " + exceptions, e);
+            throw e;
         }
     }
 
     private List<Driver> getAllDriversByCarId(Long carId) {
         logger.info("Attempting to fetch all car drivers. Params: car id = {}", carId);
-        String query = "SELECT id, name, license_number, login, password "
+        String query = "SELECT id, name, license_number, login, password, version "
                 + "FROM cars_drivers cd "
                 + "JOIN drivers d ON cd.driver_id = d.id "
                 + "WHERE car_id = ? AND is_deleted = false";
@@ -243,11 +577,7 @@ public class CarDaoImpl implements CarDao {
                 PreparedStatement statement =
                         connection.prepareStatement(query)) {
             statement.setLong(1, carId);
-            ResultSet resultSet = statement.executeQuery();
-            List<Driver> drivers = new ArrayList<>();
-            while (resultSet.next()) {
-                drivers.add(parseDriverFromResultSet(resultSet));
-            }
+            List<Driver> drivers = driverMapper.mapAll(statement.executeQuery());
             logger.info("Successfully fetched all car drivers. Params: car id = {}", carId);
             return drivers;
         } catch (SQLException e) {
@@ -256,35 +586,8 @@ public class CarDaoImpl implements CarDao {
         }
     }
 
-    private Driver parseDriverFromResultSet(ResultSet resultSet) throws SQLException {
-        Long driverId = resultSet.getObject("id", Long.class);
-        String name = resultSet.getNString("name");
-        String licenseNumber = resultSet.getNString("license_number");
-        String login = resultSet.getNString("login");
-        String password = resultSet.getNString("password");
-        Driver driver = new Driver();
-        driver.setId(driverId);
-        driver.setName(name);
-        driver.setLicenseNumber(licenseNumber);
-        driver.setLogin(login);
-        driver.setPassword(password);
-        return driver;
-    }
-
-    private Car parseCarFromResultSet(ResultSet resultSet) throws SQLException {
-        Long manufacturerId = resultSet.getObject("manufacturer_id", Long.class);
-        String manufacturerName = resultSet.getNString("manufacturer_name");
-        String manufacturerCountry = resultSet.getNString("manufacturer_country");
-        Manufacturer manufacturer = new Manufacturer();
-        manufacturer.setId(manufacturerId);
-        manufacturer.setName(manufacturerName);
-        manufacturer.setCountry(manufacturerCountry);
-        Long carId = resultSet.getObject("id", Long.class);
-        String model = resultSet.getNString("model");
-        Car car = new Car();
-        car.setId(carId);
-        car.setModel(model);
-        car.setManufacturer(manufacturer);
-        return car;
+    private void publish(Car car, ChangeEvent.Operation operation) {
+        eventBus.publish(new ChangeEvent(ChangeEvent.Entity.CAR, car.getId(), operation,
+                car.getDrivers().stream().map(Driver::getId).collect(Collectors.toList())));
     }
 }
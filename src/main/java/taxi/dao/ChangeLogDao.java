@@ -0,0 +1,14 @@
+package taxi.dao;
+
+import java.util.List;
+import taxi.lib.ChangeEvent;
+
+public interface ChangeLogDao {
+    void appendAll(List<ChangeEvent> events);
+
+    List<ChangeEvent> getAllAfter(long sequence, int limit);
+
+    long getLastSequence();
+
+    int deleteOlderThan(long timestamp);
+}
@@ -0,0 +1,125 @@
+package taxi.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.exception.DataProcessingException;
+import taxi.lib.ChangeEvent;
+import taxi.lib.Dao;
+import taxi.util.ConnectionUtil;
+
+@Dao
+public class ChangeLogDaoImpl implements ChangeLogDao {
+    private static final int COLUMNS = 5;
+    private static final String ID_SEPARATOR = ",";
+    private static final Logger logger = LogManager.getLogger(ChangeLogDaoImpl.class);
+
+    @Override
+    public void appendAll(List<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        logger.info("Attempting to append change log entries. Params: entries count = {}",
+                events.size());
+        String query = "INSERT INTO change_log "
+                + "(node_id, entity, entity_id, operation, related_ids) VALUES "
+                + "(?, ?, ?, ?, ?)" + ", (?, ?, ?, ?, ?)".repeat(events.size() - 1);
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < events.size(); i++) {
+                ChangeEvent event = events.get(i);
+                int offset = i * COLUMNS;
+                statement.setString(offset + 1, event.getOrigin());
+                statement.setString(offset + 2, event.getEntity().name());
+                statement.setLong(offset + 3, event.getEntityId());
+                statement.setString(offset + 4, event.getOperation().name());
+                statement.setString(offset + 5, event.getRelatedIds().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(ID_SEPARATOR)));
+            }
+            statement.executeUpdate();
+            logger.info("Successfully appended change log entries. Params: entries count = {}",
+                    events.size());
+        } catch (SQLException e) {
+            logger.error("Failed to append change log entries. Params: entries count = {}",
+                    events.size());
+            throw new DataProcessingException("Can't append " + events.size()
+                    + " change log entries", e);
+        }
+    }
+
+    @Override
+    public List<ChangeEvent> getAllAfter(long sequence, int limit) {
+        String query = "SELECT id, node_id, entity, entity_id, operation, related_ids "
+                + "FROM change_log WHERE id > ? ORDER BY id LIMIT ?";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, sequence);
+            statement.setInt(2, limit);
+            ResultSet resultSet = statement.executeQuery();
+            List<ChangeEvent> events = new ArrayList<>();
+            while (resultSet.next()) {
+                events.add(parseChangeEventFromResultSet(resultSet));
+            }
+            return events;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch change log entries. Params: sequence = {}", sequence);
+            throw new DataProcessingException("Can't get change log entries after "
+                    + sequence, e);
+        }
+    }
+
+    @Override
+    public long getLastSequence() {
+        String query = "SELECT COALESCE(MAX(id), 0) FROM change_log";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            logger.error("Failed to fetch last change log sequence.");
+            throw new DataProcessingException("Can't get last change log sequence", e);
+        }
+    }
+
+    @Override
+    public int deleteOlderThan(long timestamp) {
+        logger.info("Attempting to purge change log. Params: timestamp = {}", timestamp);
+        String query = "DELETE FROM change_log WHERE created_at < ?";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setTimestamp(1, new Timestamp(timestamp));
+            int deleted = statement.executeUpdate();
+            logger.info("Successfully purged change log. Params: deleted = {}", deleted);
+            return deleted;
+        } catch (SQLException e) {
+            logger.error("Failed to purge change log. Params: timestamp = {}", timestamp);
+            throw new DataProcessingException("Can't purge change log older than "
+                    + timestamp, e);
+        }
+    }
+
+    private ChangeEvent parseChangeEventFromResultSet(ResultSet resultSet) throws SQLException {
+        String relatedIds = resultSet.getString("related_ids");
+        List<Long> related = relatedIds == null || relatedIds.isEmpty()
+                ? List.of()
+                : Arrays.stream(relatedIds.split(ID_SEPARATOR))
+                        .map(Long::valueOf)
+                        .collect(Collectors.toList());
+        return new ChangeEvent(ChangeEvent.Entity.valueOf(resultSet.getString("entity")),
+                resultSet.getLong("entity_id"),
+                ChangeEvent.Operation.valueOf(resultSet.getString("operation")),
+                related,
+                resultSet.getString("node_id"),
+                resultSet.getLong("id"));
+    }
+}
@@ -0,0 +1,8 @@
+package taxi.dao;
+
+import java.util.Iterator;
+
+public interface Cursor<T> extends Iterator<T>, AutoCloseable {
+    @Override
+    void close();
+}
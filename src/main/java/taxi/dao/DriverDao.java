@@ -1,8 +1,17 @@
 package taxi.dao;
 
+import java.util.List;
 import java.util.Optional;
 import taxi.model.Driver;
+import taxi.model.DriverView;
+import taxi.model.LabeledId;
 
 public interface DriverDao extends GenericDao<Driver> {
     Optional<Driver> getByLogin(String login);
+
+    List<DriverView> getAllViews();
+
+    Cursor<DriverView> streamAllViews();
+
+    List<LabeledId> getLabels(String prefix, LabeledId after, int limit);
 }
@@ -5,19 +5,30 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import taxi.dao.mapper.DriverMapper;
+import taxi.dao.mapper.DriverViewMapper;
+import taxi.dao.mapper.RowMapper;
 import taxi.exception.DataProcessingException;
+import taxi.exception.OptimisticLockException;
+import taxi.lib.ChangeEvent;
 import taxi.lib.Dao;
+import taxi.lib.EventBus;
+import taxi.lib.IdentityMap;
 import taxi.model.Driver;
+import taxi.model.DriverView;
+import taxi.model.LabeledId;
 import taxi.util.ConnectionUtil;
 
 @Dao
 public class DriverDaoImpl implements DriverDao {
     private static final Logger logger = LogManager.getLogger(DriverDaoImpl.class);
+    private static final EventBus eventBus = EventBus.getInstance();
+    private static final RowMapper<Driver> driverMapper = new DriverMapper();
+    private static final RowMapper<DriverView> driverViewMapper = new DriverViewMapper();
 
     @Override
     public Driver create(Driver driver) {
@@ -38,6 +49,8 @@ public class DriverDaoImpl implements DriverDao {
             if (resultSet.next()) {
                 driver.setId(resultSet.getObject(1, Long.class));
             }
+            eventBus.publish(new ChangeEvent(ChangeEvent.Entity.DRIVER, driver.getId(),
+                    ChangeEvent.Operation.CREATE));
             logger.info("Successfully added driver to DB. "
                             + "Params: driver name = {}, driver license number = {}",
                             driver.getName(), driver.getLicenseNumber());
@@ -54,17 +67,17 @@ public class DriverDaoImpl implements DriverDao {
     @Override
     public Optional<Driver> get(Long id) {
         logger.info("Attempting to fetch driver from DB. Params: driver id = {}", id);
+        Driver cached = IdentityMap.get(Driver.class, id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         String query = "SELECT * FROM drivers WHERE id = ? AND is_deleted = FALSE";
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setLong(1, id);
-            ResultSet resultSet = statement.executeQuery();
-            Driver driver = null;
-            if (resultSet.next()) {
-                driver = parseDriverFromResultSet(resultSet);
-            }
+            Optional<Driver> driver = driverMapper.mapFirst(statement.executeQuery());
             logger.info("Successfully fetched driver from DB. Params: driver id = {}", id);
-            return Optional.ofNullable(driver);
+            return driver;
         } catch (SQLException e) {
             logger.error("Failed to fetch driver from DB. Params: driver id = {}", id);
             throw new DataProcessingException("Couldn't get driver by id " + id, e);
@@ -75,13 +88,9 @@ public class DriverDaoImpl implements DriverDao {
     public List<Driver> getAll() {
         logger.info("Attempting to fetch all drivers from DB.");
         String query = "SELECT * FROM drivers WHERE is_deleted = FALSE";
-        List<Driver> drivers = new ArrayList<>();
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement = connection.prepareStatement(query)) {
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                drivers.add(parseDriverFromResultSet(resultSet));
-            }
+            List<Driver> drivers = driverMapper.mapAll(statement.executeQuery());
             logger.info("Successfully fetched all drivers from DB.");
             return drivers;
         } catch (SQLException e) {
@@ -93,10 +102,13 @@ public class DriverDaoImpl implements DriverDao {
 
     @Override
     public Driver update(Driver driver) {
-        logger.info("Attempting to update driver in DB. Params: driver id = {}", driver.getId());
+        logger.info("Attempting to update driver in DB. Params: driver id = {}, version = {}",
+                driver.getId(), driver.getVersion());
+        IdentityMap.evict(Driver.class, driver.getId());
         String query = "UPDATE drivers "
-                + "SET name = ?, license_number = ?, login = ?, password = ? "
-                + "WHERE id = ? AND is_deleted = FALSE";
+                + "SET name = ?, license_number = ?, login = ?, password = ?, "
+                + "version = version + 1 "
+                + "WHERE id = ? AND version = ? AND is_deleted = FALSE";
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement
                         = connection.prepareStatement(query)) {
@@ -105,7 +117,17 @@ public class DriverDaoImpl implements DriverDao {
             statement.setString(3, driver.getLogin());
             statement.setString(4, driver.getPassword());
             statement.setLong(5, driver.getId());
-            statement.executeUpdate();
+            statement.setLong(6, driver.getVersion());
+            if (statement.executeUpdate() == 0) {
+                logger.warn("Driver was changed or deleted concurrently. "
+                        + "Params: driver id = {}, version = {}",
+                        driver.getId(), driver.getVersion());
+                throw new OptimisticLockException("Driver " + driver.getId() + " with version "
+                        + driver.getVersion() + " was changed or deleted concurrently");
+            }
+            driver.setVersion(driver.getVersion() + 1);
+            eventBus.publish(new ChangeEvent(ChangeEvent.Entity.DRIVER, driver.getId(),
+                    ChangeEvent.Operation.UPDATE));
             logger.info("Successfully updated driver in DB. Params: driver id = {}",
                     driver.getId());
             return driver;
@@ -119,12 +141,18 @@ public class DriverDaoImpl implements DriverDao {
     @Override
     public boolean delete(Long id) {
         logger.info("Attempting to delete driver from DB. Params: driver id = {}", id);
+        IdentityMap.evict(Driver.class, id);
         String query = "UPDATE drivers SET is_deleted = TRUE WHERE id = ?";
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setLong(1, id);
+            boolean deleted = statement.executeUpdate() > 0;
+            if (deleted) {
+                eventBus.publish(new ChangeEvent(ChangeEvent.Entity.DRIVER, id,
+                        ChangeEvent.Operation.DELETE));
+            }
             logger.info("Successfully deleted driver from DB. Params: driver id = {}", id);
-            return statement.executeUpdate() > 0;
+            return deleted;
         } catch (SQLException e) {
             logger.error("Failed to delete driver from DB. Params: driver id = {}", id);
             throw new DataProcessingException("Couldn't delete driver with id " + id, e);
@@ -140,31 +168,60 @@ public class DriverDaoImpl implements DriverDao {
                 PreparedStatement statement
                         = connection.prepareStatement(query)) {
             statement.setString(1, login);
-            ResultSet resultSet = statement.executeQuery();
-            Driver driver = null;
-            if (resultSet.next()) {
-                driver = parseDriverFromResultSet(resultSet);
-            }
+            Optional<Driver> driver = driverMapper.mapFirst(statement.executeQuery());
             logger.info("Successfully fetched driver by login. Params: login = {}", login);
-            return Optional.ofNullable(driver);
+            return driver;
         } catch (SQLException e) {
             logger.error("Failed to fetch driver by login. Params: login = {}", login);
             throw new DataProcessingException("Can't find driver with login " + login, e);
         }
     }
 
-    private Driver parseDriverFromResultSet(ResultSet resultSet) throws SQLException {
-        Long id = resultSet.getObject("id", Long.class);
-        String name = resultSet.getString("name");
-        String licenseNumber = resultSet.getString("license_number");
-        String login = resultSet.getString("login");
-        String password = resultSet.getString("password");
-        Driver driver = new Driver();
-        driver.setId(id);
-        driver.setName(name);
-        driver.setLicenseNumber(licenseNumber);
-        driver.setLogin(login);
-        driver.setPassword(password);
-        return driver;
+    @Override
+    public List<DriverView> getAllViews() {
+        logger.info("Attempting to fetch all driver views from DB.");
+        String query = "SELECT id, name, license_number, login FROM drivers"
+                + " WHERE is_deleted = FALSE";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            List<DriverView> drivers = driverViewMapper.mapAll(statement.executeQuery());
+            logger.info("Successfully fetched all driver views from DB.");
+            return drivers;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch all driver views from DB.");
+            throw new DataProcessingException("Couldn't get a list of driver views.", e);
+        }
+    }
+
+    @Override
+    public Cursor<DriverView> streamAllViews() {
+        logger.info("Attempting to open driver view cursor.");
+        String query = "SELECT id, name, license_number, login FROM drivers"
+                + " WHERE is_deleted = FALSE";
+        try {
+            Cursor<DriverView> cursor = ResultSetCursor.open(query, driverViewMapper::fetcher);
+            logger.info("Successfully opened driver view cursor.");
+            return cursor;
+        } catch (SQLException e) {
+            logger.error("Failed to open driver view cursor.");
+            throw new DataProcessingException("Couldn't stream a list of driver views.", e);
+        }
+    }
+
+    @Override
+    public List<LabeledId> getLabels(String prefix, LabeledId after, int limit) {
+        logger.info("Attempting to fetch driver labels from DB. "
+                + "Params: prefix = {}, after = {}, limit = {}", prefix, after, limit);
+        try {
+            List<LabeledId> labels = LabelQuery.fetch("drivers", "name", prefix, after, limit);
+            logger.info("Successfully fetched driver labels from DB. "
+                    + "Params: prefix = {}, after = {}, limit = {}", prefix, after, limit);
+            return labels;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch driver labels from DB. "
+                    + "Params: prefix = {}, after = {}, limit = {}", prefix, after, limit);
+            throw new DataProcessingException("Couldn't get driver labels starting with "
+                    + prefix + " after " + after, e);
+        }
     }
 }
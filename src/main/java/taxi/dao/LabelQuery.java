@@ -0,0 +1,49 @@
+package taxi.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import taxi.dao.mapper.LabeledIdMapper;
+import taxi.dao.mapper.RowMapper;
+import taxi.model.LabeledId;
+import taxi.util.ConnectionUtil;
+
+class LabelQuery {
+    private static final RowMapper<LabeledId> labeledIdMapper = new LabeledIdMapper();
+
+    private LabelQuery() {
+    }
+
+    static List<LabeledId> fetch(String table, String column, String prefix, LabeledId after,
+                                 int limit) throws SQLException {
+        StringBuilder query = new StringBuilder("SELECT id, ").append(column)
+                .append(" AS label FROM ").append(table).append(" WHERE is_deleted = FALSE");
+        if (prefix != null) {
+            query.append(" AND ").append(column).append(" LIKE ?");
+        }
+        if (after != null) {
+            query.append(" AND (").append(column).append(" > ? OR (").append(column)
+                    .append(" = ? AND id > ?))");
+        }
+        query.append(" ORDER BY ").append(column).append(", id LIMIT ?");
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query.toString())) {
+            int index = 1;
+            if (prefix != null) {
+                statement.setString(index++, escapeLike(prefix) + '%');
+            }
+            if (after != null) {
+                statement.setString(index++, after.getLabel());
+                statement.setString(index++, after.getLabel());
+                statement.setLong(index++, after.getId());
+            }
+            statement.setInt(index, limit);
+            return labeledIdMapper.mapAll(statement.executeQuery());
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
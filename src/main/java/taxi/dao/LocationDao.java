@@ -0,0 +1,8 @@
+package taxi.dao;
+
+import java.util.List;
+import taxi.model.LocationPing;
+
+public interface LocationDao {
+    int saveAll(List<LocationPing> pings);
+}
@@ -0,0 +1,51 @@
+package taxi.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.exception.DataProcessingException;
+import taxi.lib.Dao;
+import taxi.model.LocationPing;
+import taxi.util.ConnectionUtil;
+
+@Dao
+public class LocationDaoImpl implements LocationDao {
+    private static final int COLUMNS = 4;
+    private static final Logger logger = LogManager.getLogger(LocationDaoImpl.class);
+
+    @Override
+    public int saveAll(List<LocationPing> pings) {
+        if (pings.isEmpty()) {
+            return 0;
+        }
+        logger.info("Attempting to save car locations to DB. Params: pings count = {}",
+                pings.size());
+        String query = "INSERT INTO car_locations (car_id, latitude, longitude, reported_at) "
+                + "VALUES (?, ?, ?, ?)" + ", (?, ?, ?, ?)".repeat(pings.size() - 1)
+                + " ON DUPLICATE KEY UPDATE latitude = VALUES(latitude),"
+                + " longitude = VALUES(longitude), reported_at = VALUES(reported_at)";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < pings.size(); i++) {
+                LocationPing ping = pings.get(i);
+                int offset = i * COLUMNS;
+                statement.setLong(offset + 1, ping.getCarId());
+                statement.setDouble(offset + 2, ping.getLatitude());
+                statement.setDouble(offset + 3, ping.getLongitude());
+                statement.setTimestamp(offset + 4, new Timestamp(ping.getTimestamp()));
+            }
+            statement.executeUpdate();
+            logger.info("Successfully saved car locations to DB. Params: pings count = {}",
+                    pings.size());
+            return pings.size();
+        } catch (SQLException e) {
+            logger.error("Failed to save car locations to DB. Params: pings count = {}",
+                    pings.size());
+            throw new DataProcessingException("Can't save " + pings.size() + " car locations", e);
+        }
+    }
+}
@@ -5,19 +5,25 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import taxi.dao.mapper.ManufacturerMapper;
+import taxi.dao.mapper.RowMapper;
 import taxi.exception.DataProcessingException;
+import taxi.lib.ChangeEvent;
 import taxi.lib.Dao;
+import taxi.lib.EventBus;
+import taxi.lib.IdentityMap;
 import taxi.model.Manufacturer;
 import taxi.util.ConnectionUtil;
 
 @Dao
 public class ManufacturerDaoImpl implements ManufacturerDao {
     private static final Logger logger = LogManager.getLogger(ManufacturerDaoImpl.class);
+    private static final EventBus eventBus = EventBus.getInstance();
+    private static final RowMapper<Manufacturer> manufacturerMapper = new ManufacturerMapper();
 
     @Override
     public Manufacturer create(Manufacturer manufacturer) {
@@ -32,6 +38,8 @@ public class ManufacturerDaoImpl implements ManufacturerDao {
             if (resultSet.next()) {
                 manufacturer.setId(resultSet.getObject(1, Long.class));
             }
+            eventBus.publish(new ChangeEvent(ChangeEvent.Entity.MANUFACTURER,
+                    manufacturer.getId(), ChangeEvent.Operation.CREATE));
             logger.info("Successfully added manufacturer to DB. Params: manufacturer name = {}, "
                     + "manufacturer country = {}",
                     manufacturer.getName(), manufacturer.getCountry());
@@ -47,18 +55,19 @@ public class ManufacturerDaoImpl implements ManufacturerDao {
     @Override
     public Optional<Manufacturer> get(Long id) {
         logger.info("Attempting to fetch manufacturer from DB. Params: manufacturer id = {}", id);
+        Manufacturer cached = IdentityMap.get(Manufacturer.class, id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         String query = "SELECT * FROM manufacturers WHERE id = ? AND is_deleted = FALSE";
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setLong(1, id);
-            ResultSet resultSet = statement.executeQuery();
-            Manufacturer manufacturer = null;
-            if (resultSet.next()) {
-                manufacturer = parseManufacturerFromResultSet(resultSet);
-            }
+            Optional<Manufacturer> manufacturer =
+                    manufacturerMapper.mapFirst(statement.executeQuery());
             logger.info("Successfully fetched manufacturer from DB. "
                     + "Params: manufacturer id = {}", id);
-            return Optional.ofNullable(manufacturer);
+            return manufacturer;
         } catch (SQLException e) {
             logger.error("Failed to fetch manufacturer from DB. Params: manufacturer id = {}", id);
             throw new DataProcessingException("Couldn't get manufacturer by id " + id, e);
@@ -72,11 +81,8 @@ public class ManufacturerDaoImpl implements ManufacturerDao {
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement
                         = connection.prepareStatement(query)) {
-            List<Manufacturer> manufacturers = new ArrayList<>();
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                manufacturers.add(parseManufacturerFromResultSet(resultSet));
-            }
+            List<Manufacturer> manufacturers =
+                    manufacturerMapper.mapAll(statement.executeQuery());
             logger.info("Successfully fetched all manufacturers from DB.");
             return manufacturers;
         } catch (SQLException e) {
@@ -90,6 +96,7 @@ public class ManufacturerDaoImpl implements ManufacturerDao {
     public Manufacturer update(Manufacturer manufacturer) {
         logger.info("Attempting to update manufacturer. Params: manufacturer id = {}",
                 manufacturer.getId());
+        IdentityMap.evict(Manufacturer.class, manufacturer.getId());
         String query = "UPDATE manufacturers SET name = ?, country = ?"
                 + " WHERE id = ? AND is_deleted = FALSE";
         try (Connection connection = ConnectionUtil.getConnection();
@@ -97,6 +104,8 @@ public class ManufacturerDaoImpl implements ManufacturerDao {
                         = setUpdate(connection.prepareStatement(query), manufacturer)) {
             statement.setLong(3, manufacturer.getId());
             statement.executeUpdate();
+            eventBus.publish(new ChangeEvent(ChangeEvent.Entity.MANUFACTURER,
+                    manufacturer.getId(), ChangeEvent.Operation.UPDATE));
             logger.info("Successfully updated manufacturer. Params: manufacturer id = {}",
                     manufacturer.getId());
             return manufacturer;
@@ -111,31 +120,26 @@ public class ManufacturerDaoImpl implements ManufacturerDao {
     @Override
     public boolean delete(Long id) {
         logger.info("Attempting to delete manufacturer from DB. Params: manufacturer id = {}", id);
+        IdentityMap.evict(Manufacturer.class, id);
         String query = "UPDATE manufacturers SET is_deleted = TRUE WHERE id = ?";
         try (Connection connection = ConnectionUtil.getConnection();
                 PreparedStatement statement
                         = connection.prepareStatement(query)) {
             statement.setLong(1, id);
+            boolean deleted = statement.executeUpdate() > 0;
+            if (deleted) {
+                eventBus.publish(new ChangeEvent(ChangeEvent.Entity.MANUFACTURER, id,
+                        ChangeEvent.Operation.DELETE));
+            }
             logger.info("Successfully deleted manufacturer from DB. "
                     + "Params: manufacturer id = {}", id);
-            return statement.executeUpdate() > 0;
+            return deleted;
         } catch (SQLException e) {
             logger.error("Failed to delete manufacturer from DB. Params: manufacturer id = {}", id);
             throw new DataProcessingException("Couldn't delete a manufacturer by id " + id, e);
         }
     }
 
-    private Manufacturer parseManufacturerFromResultSet(ResultSet resultSet) throws SQLException {
-        Long id = resultSet.getObject("id", Long.class);
-        String name = resultSet.getString("name");
-        String country = resultSet.getString("country");
-        Manufacturer manufacturer = new Manufacturer();
-        manufacturer.setId(id);
-        manufacturer.setName(name);
-        manufacturer.setCountry(country);
-        return manufacturer;
-    }
-
     private PreparedStatement setUpdate(PreparedStatement statement,
                                         Manufacturer manufacturer) throws SQLException {
         statement.setString(1, manufacturer.getName());
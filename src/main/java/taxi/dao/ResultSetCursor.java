@@ -0,0 +1,102 @@
+package taxi.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.dao.mapper.RowFetcher;
+import taxi.exception.DataProcessingException;
+import taxi.util.ConnectionUtil;
+
+class ResultSetCursor<T> implements Cursor<T> {
+    private static final Logger logger = LogManager.getLogger(ResultSetCursor.class);
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final RowFetcher<T> fetcher;
+    private T next;
+    private boolean fetched;
+    private boolean closed;
+    private int count;
+
+    private ResultSetCursor(Connection connection, PreparedStatement statement,
+                    RowFetcher<T> fetcher) {
+        this.connection = connection;
+        this.statement = statement;
+        this.fetcher = fetcher;
+    }
+
+    static <T> Cursor<T> open(String query, FetcherFactory<T> factory) throws SQLException {
+        Connection connection = ConnectionUtil.getConnection();
+        try {
+            PreparedStatement statement = connection.prepareStatement(query,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            try {
+                statement.setFetchSize(Integer.MIN_VALUE);
+                ResultSet resultSet = statement.executeQuery();
+                return new ResultSetCursor<>(connection, statement, factory.create(resultSet));
+            } catch (SQLException | RuntimeException e) {
+                statement.close();
+                throw e;
+            }
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!fetched && !closed) {
+            try {
+                next = fetcher.fetch();
+            } catch (SQLException e) {
+                close();
+                throw new DataProcessingException("Can't read next row from cursor", e);
+            }
+            fetched = true;
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Cursor is exhausted");
+        }
+        fetched = false;
+        count++;
+        T current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            try {
+                statement.close();
+            } finally {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to close cursor. Params: rows read = {}", count, e);
+            return;
+        }
+        logger.info("Closed cursor. Params: rows read = {}", count);
+    }
+
+    @FunctionalInterface
+    interface FetcherFactory<T> {
+        RowFetcher<T> create(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -0,0 +1,12 @@
+package taxi.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import taxi.model.Shift;
+
+public interface ShiftDao extends GenericDao<Shift> {
+    List<Shift> getAllByDriver(Long driverId);
+
+    Map<Long, Set<Long>> getAssignedCarIds(Set<Long> driverIds);
+}
@@ -0,0 +1,199 @@
+package taxi.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.dao.mapper.RowMapper;
+import taxi.dao.mapper.ShiftMapper;
+import taxi.exception.DataProcessingException;
+import taxi.lib.ChangeEvent;
+import taxi.lib.Dao;
+import taxi.lib.EventBus;
+import taxi.model.Shift;
+import taxi.util.ConnectionUtil;
+
+@Dao
+public class ShiftDaoImpl implements ShiftDao {
+    private static final Logger logger = LogManager.getLogger(ShiftDaoImpl.class);
+    private static final EventBus eventBus = EventBus.getInstance();
+    private static final RowMapper<Shift> shiftMapper = new ShiftMapper();
+    private static final int MAX_IN_LIST = 1000;
+
+    @Override
+    public Shift create(Shift shift) {
+        logger.info("Attempting to add shift to DB. Params: driver id = {}, start = {}, end = {}",
+                shift.getDriverId(), shift.getStartTime(), shift.getEndTime());
+        String query = "INSERT INTO driver_shifts (driver_id, starts_at, ends_at)"
+                + " VALUES (?, ?, ?)";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query,
+                        Statement.RETURN_GENERATED_KEYS)) {
+            statement.setLong(1, shift.getDriverId());
+            statement.setTimestamp(2, new Timestamp(shift.getStartTime()));
+            statement.setTimestamp(3, new Timestamp(shift.getEndTime()));
+            statement.executeUpdate();
+            ResultSet resultSet = statement.getGeneratedKeys();
+            if (resultSet.next()) {
+                shift.setId(resultSet.getObject(1, Long.class));
+            }
+            publish(shift, ChangeEvent.Operation.CREATE);
+            logger.info("Successfully added shift to DB. Params: shift id = {}", shift.getId());
+            return shift;
+        } catch (SQLException e) {
+            logger.error("Failed to add shift to DB. Params: driver id = {}",
+                    shift.getDriverId());
+            throw new DataProcessingException("Couldn't create " + shift, e);
+        }
+    }
+
+    @Override
+    public Optional<Shift> get(Long id) {
+        logger.info("Attempting to fetch shift from DB. Params: shift id = {}", id);
+        String query = "SELECT id, driver_id, starts_at, ends_at FROM driver_shifts"
+                + " WHERE id = ? AND is_deleted = FALSE";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, id);
+            Optional<Shift> shift = shiftMapper.mapFirst(statement.executeQuery());
+            logger.info("Successfully fetched shift from DB. Params: shift id = {}", id);
+            return shift;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch shift from DB. Params: shift id = {}", id);
+            throw new DataProcessingException("Couldn't get shift by id " + id, e);
+        }
+    }
+
+    @Override
+    public List<Shift> getAll() {
+        logger.info("Attempting to fetch all shifts from DB.");
+        String query = "SELECT s.id, s.driver_id, s.starts_at, s.ends_at FROM driver_shifts s"
+                + " JOIN drivers d ON s.driver_id = d.id"
+                + " WHERE s.is_deleted = FALSE AND d.is_deleted = FALSE";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            List<Shift> shifts = shiftMapper.mapAll(statement.executeQuery());
+            logger.info("Successfully fetched all shifts from DB. Params: shifts count = {}",
+                    shifts.size());
+            return shifts;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch all shifts from DB.");
+            throw new DataProcessingException("Couldn't get a list of shifts.", e);
+        }
+    }
+
+    @Override
+    public Shift update(Shift shift) {
+        logger.info("Attempting to update shift in DB. Params: shift id = {}", shift.getId());
+        String query = "UPDATE driver_shifts SET driver_id = ?, starts_at = ?, ends_at = ?"
+                + " WHERE id = ? AND is_deleted = FALSE";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, shift.getDriverId());
+            statement.setTimestamp(2, new Timestamp(shift.getStartTime()));
+            statement.setTimestamp(3, new Timestamp(shift.getEndTime()));
+            statement.setLong(4, shift.getId());
+            if (statement.executeUpdate() == 0) {
+                throw new DataProcessingException("Shift " + shift.getId()
+                        + " doesn't exist or was deleted", null);
+            }
+            publish(shift, ChangeEvent.Operation.UPDATE);
+            logger.info("Successfully updated shift in DB. Params: shift id = {}",
+                    shift.getId());
+            return shift;
+        } catch (SQLException e) {
+            logger.error("Failed to update shift in DB. Params: shift id = {}", shift.getId());
+            throw new DataProcessingException("Couldn't update " + shift, e);
+        }
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        logger.info("Attempting to delete shift from DB. Params: shift id = {}", id);
+        String query = "UPDATE driver_shifts SET is_deleted = TRUE"
+                + " WHERE id = ? AND is_deleted = FALSE";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, id);
+            boolean deleted = statement.executeUpdate() > 0;
+            if (deleted) {
+                eventBus.publish(new ChangeEvent(ChangeEvent.Entity.SHIFT, id,
+                        ChangeEvent.Operation.DELETE));
+            }
+            logger.info("Successfully deleted shift from DB. Params: shift id = {}", id);
+            return deleted;
+        } catch (SQLException e) {
+            logger.error("Failed to delete shift from DB. Params: shift id = {}", id);
+            throw new DataProcessingException("Couldn't delete shift with id " + id, e);
+        }
+    }
+
+    @Override
+    public List<Shift> getAllByDriver(Long driverId) {
+        logger.info("Attempting to fetch shifts by driver. Params: driver id = {}", driverId);
+        String query = "SELECT id, driver_id, starts_at, ends_at FROM driver_shifts"
+                + " WHERE driver_id = ? AND is_deleted = FALSE ORDER BY starts_at";
+        try (Connection connection = ConnectionUtil.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, driverId);
+            List<Shift> shifts = shiftMapper.mapAll(statement.executeQuery());
+            logger.info("Successfully fetched shifts by driver. Params: driver id = {}",
+                    driverId);
+            return shifts;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch shifts by driver. Params: driver id = {}", driverId);
+            throw new DataProcessingException("Couldn't get shifts of driver " + driverId, e);
+        }
+    }
+
+    @Override
+    public Map<Long, Set<Long>> getAssignedCarIds(Set<Long> driverIds) {
+        logger.info("Attempting to fetch assigned car ids. Params: drivers count = {}",
+                driverIds.size());
+        Map<Long, Set<Long>> carIds = new HashMap<>();
+        List<Long> ids = new ArrayList<>(driverIds);
+        try (Connection connection = ConnectionUtil.getConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST, ids.size()));
+                String query = "SELECT cd.driver_id, cd.car_id FROM cars_drivers cd"
+                        + " JOIN cars c ON cd.car_id = c.id"
+                        + " WHERE c.is_deleted = FALSE AND cd.driver_id IN (?"
+                        + ", ?".repeat(chunk.size() - 1) + ")";
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setLong(i + 1, chunk.get(i));
+                    }
+                    ResultSet resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        carIds.computeIfAbsent(resultSet.getLong(1), id -> new HashSet<>())
+                                .add(resultSet.getLong(2));
+                    }
+                }
+            }
+            logger.info("Successfully fetched assigned car ids. Params: drivers count = {}",
+                    driverIds.size());
+            return carIds;
+        } catch (SQLException e) {
+            logger.error("Failed to fetch assigned car ids. Params: drivers count = {}",
+                    driverIds.size());
+            throw new DataProcessingException("Couldn't get cars of " + driverIds.size()
+                    + " drivers", e);
+        }
+    }
+
+    private void publish(Shift shift, ChangeEvent.Operation operation) {
+        eventBus.publish(new ChangeEvent(ChangeEvent.Entity.SHIFT, shift.getId(), operation,
+                List.of(shift.getDriverId())));
+    }
+}
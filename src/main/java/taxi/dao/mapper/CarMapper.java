@@ -0,0 +1,32 @@
+package taxi.dao.mapper;
+
+import java.sql.SQLException;
+import taxi.lib.IdentityMap;
+import taxi.model.Car;
+import taxi.model.Manufacturer;
+
+public class CarMapper implements RowMapper<Car> {
+    private final RowMapper<Manufacturer> manufacturerMapper =
+            new ManufacturerMapper("manufacturer_");
+
+    @Override
+    public RowReader<Car> bind(Columns columns) throws SQLException {
+        int id = columns.indexOf("id");
+        int model = columns.indexOf("model");
+        int version = columns.indexOf("version");
+        RowReader<Manufacturer> manufacturerReader = manufacturerMapper.bind(columns);
+        return resultSet -> {
+            long carId = resultSet.getLong(id);
+            Car cached = IdentityMap.get(Car.class, carId);
+            if (cached != null) {
+                return cached;
+            }
+            Car car = new Car();
+            car.setId(carId);
+            car.setModel(resultSet.getString(model));
+            car.setManufacturer(manufacturerReader.read(resultSet));
+            car.setVersion(resultSet.getLong(version));
+            return IdentityMap.putIfAbsent(Car.class, carId, car);
+        };
+    }
+}
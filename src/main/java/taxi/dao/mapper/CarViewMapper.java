@@ -0,0 +1,103 @@
+package taxi.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import taxi.model.CarView;
+import taxi.model.DriverView;
+
+public class CarViewMapper {
+    private static final DriverView[] NO_DRIVERS = new DriverView[0];
+    private final RowMapper<DriverView> driverMapper = new DriverViewMapper("driver_");
+
+    public List<CarView> mapAll(ResultSet resultSet) throws SQLException {
+        RowFetcher<CarView> fetcher = fetcher(resultSet);
+        List<CarView> cars = new ArrayList<>();
+        CarView car;
+        while ((car = fetcher.fetch()) != null) {
+            cars.add(car);
+        }
+        return cars;
+    }
+
+    public RowFetcher<CarView> fetcher(ResultSet resultSet) throws SQLException {
+        return new GroupingFetcher(resultSet, Columns.of(resultSet));
+    }
+
+    private class GroupingFetcher implements RowFetcher<CarView> {
+        private final ResultSet resultSet;
+        private final int id;
+        private final int model;
+        private final int manufacturerId;
+        private final int manufacturerName;
+        private final int manufacturerCountry;
+        private final int driverId;
+        private final RowReader<DriverView> driverReader;
+        private final Deduplicator<String> strings = new Deduplicator<>();
+        private final Map<Long, DriverView> drivers = new HashMap<>();
+        private boolean onRow;
+
+        private GroupingFetcher(ResultSet resultSet, Columns columns) throws SQLException {
+            this.resultSet = resultSet;
+            id = columns.indexOf("id");
+            model = columns.indexOf("model");
+            manufacturerId = columns.indexOf("manufacturer_id");
+            manufacturerName = columns.indexOf("manufacturer_name");
+            manufacturerCountry = columns.indexOf("manufacturer_country");
+            driverId = columns.indexOf("driver_id");
+            driverReader = driverMapper.bind(columns);
+            onRow = resultSet.next();
+        }
+
+        @Override
+        public CarView fetch() throws SQLException {
+            if (!onRow) {
+                return null;
+            }
+            CarBuilder car = new CarBuilder(resultSet.getLong(id),
+                    strings.dedupe(resultSet.getString(model)),
+                    resultSet.getLong(manufacturerId),
+                    strings.dedupe(resultSet.getString(manufacturerName)),
+                    strings.dedupe(resultSet.getString(manufacturerCountry)));
+            do {
+                long linkedDriverId = resultSet.getLong(driverId);
+                if (!resultSet.wasNull()) {
+                    DriverView driver = drivers.get(linkedDriverId);
+                    if (driver == null) {
+                        driver = driverReader.read(resultSet);
+                        drivers.put(linkedDriverId, driver);
+                    }
+                    car.drivers.add(driver);
+                }
+                onRow = resultSet.next();
+            } while (onRow && resultSet.getLong(id) == car.id);
+            return car.build();
+        }
+    }
+
+    private static class CarBuilder {
+        private final long id;
+        private final String model;
+        private final long manufacturerId;
+        private final String manufacturerName;
+        private final String manufacturerCountry;
+        private final List<DriverView> drivers = new ArrayList<>();
+
+        private CarBuilder(long id, String model, long manufacturerId, String manufacturerName,
+                           String manufacturerCountry) {
+            this.id = id;
+            this.model = model;
+            this.manufacturerId = manufacturerId;
+            this.manufacturerName = manufacturerName;
+            this.manufacturerCountry = manufacturerCountry;
+        }
+
+        private CarView build() {
+            return new CarView(id, model, manufacturerId, manufacturerName, manufacturerCountry,
+                    drivers.isEmpty() ? NO_DRIVERS : drivers.toArray(NO_DRIVERS));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package taxi.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class Columns {
+    private final Map<String, Integer> indexes;
+
+    private Columns(Map<String, Integer> indexes) {
+        this.indexes = indexes;
+    }
+
+    public static Columns of(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int count = metaData.getColumnCount();
+        Map<String, Integer> indexes = new HashMap<>(count * 2);
+        for (int i = 1; i <= count; i++) {
+            indexes.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+        return new Columns(indexes);
+    }
+
+    public int indexOf(String label) throws SQLException {
+        Integer index = indexes.get(label.toLowerCase(Locale.ROOT));
+        if (index == null) {
+            throw new SQLException("Column " + label + " is not present in result set "
+                    + indexes.keySet());
+        }
+        return index;
+    }
+}
@@ -0,0 +1,16 @@
+package taxi.dao.mapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class Deduplicator<T> {
+    private final Map<T, T> canonical = new HashMap<>();
+
+    public T dedupe(T value) {
+        if (value == null) {
+            return null;
+        }
+        T existing = canonical.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+}
@@ -0,0 +1,32 @@
+package taxi.dao.mapper;
+
+import java.sql.SQLException;
+import taxi.lib.IdentityMap;
+import taxi.model.Driver;
+
+public class DriverMapper implements RowMapper<Driver> {
+    @Override
+    public RowReader<Driver> bind(Columns columns) throws SQLException {
+        int id = columns.indexOf("id");
+        int name = columns.indexOf("name");
+        int licenseNumber = columns.indexOf("license_number");
+        int login = columns.indexOf("login");
+        int password = columns.indexOf("password");
+        int version = columns.indexOf("version");
+        return resultSet -> {
+            long driverId = resultSet.getLong(id);
+            Driver cached = IdentityMap.get(Driver.class, driverId);
+            if (cached != null) {
+                return cached;
+            }
+            Driver driver = new Driver();
+            driver.setId(driverId);
+            driver.setName(resultSet.getString(name));
+            driver.setLicenseNumber(resultSet.getString(licenseNumber));
+            driver.setLogin(resultSet.getString(login));
+            driver.setPassword(resultSet.getString(password));
+            driver.setVersion(resultSet.getLong(version));
+            return IdentityMap.putIfAbsent(Driver.class, driverId, driver);
+        };
+    }
+}
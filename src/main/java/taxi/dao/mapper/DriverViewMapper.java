@@ -0,0 +1,26 @@
+package taxi.dao.mapper;
+
+import java.sql.SQLException;
+import taxi.model.DriverView;
+
+public class DriverViewMapper implements RowMapper<DriverView> {
+    private final String prefix;
+
+    public DriverViewMapper() {
+        this("");
+    }
+
+    public DriverViewMapper(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public RowReader<DriverView> bind(Columns columns) throws SQLException {
+        int id = columns.indexOf(prefix + "id");
+        int name = columns.indexOf(prefix + "name");
+        int licenseNumber = columns.indexOf(prefix + "license_number");
+        int login = columns.indexOf(prefix + "login");
+        return resultSet -> new DriverView(resultSet.getLong(id), resultSet.getString(name),
+                resultSet.getString(licenseNumber), resultSet.getString(login));
+    }
+}
@@ -0,0 +1,13 @@
+package taxi.dao.mapper;
+
+import java.sql.SQLException;
+import taxi.model.LabeledId;
+
+public class LabeledIdMapper implements RowMapper<LabeledId> {
+    @Override
+    public RowReader<LabeledId> bind(Columns columns) throws SQLException {
+        int id = columns.indexOf("id");
+        int label = columns.indexOf("label");
+        return resultSet -> new LabeledId(resultSet.getLong(id), resultSet.getString(label));
+    }
+}
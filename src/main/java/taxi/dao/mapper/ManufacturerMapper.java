@@ -0,0 +1,36 @@
+package taxi.dao.mapper;
+
+import java.sql.SQLException;
+import taxi.lib.IdentityMap;
+import taxi.model.Manufacturer;
+
+public class ManufacturerMapper implements RowMapper<Manufacturer> {
+    private final String prefix;
+
+    public ManufacturerMapper() {
+        this("");
+    }
+
+    public ManufacturerMapper(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public RowReader<Manufacturer> bind(Columns columns) throws SQLException {
+        int id = columns.indexOf(prefix + "id");
+        int name = columns.indexOf(prefix + "name");
+        int country = columns.indexOf(prefix + "country");
+        return resultSet -> {
+            long manufacturerId = resultSet.getLong(id);
+            Manufacturer cached = IdentityMap.get(Manufacturer.class, manufacturerId);
+            if (cached != null) {
+                return cached;
+            }
+            Manufacturer manufacturer = new Manufacturer();
+            manufacturer.setId(manufacturerId);
+            manufacturer.setName(resultSet.getString(name));
+            manufacturer.setCountry(resultSet.getString(country));
+            return IdentityMap.putIfAbsent(Manufacturer.class, manufacturerId, manufacturer);
+        };
+    }
+}
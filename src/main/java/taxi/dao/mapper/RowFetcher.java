@@ -0,0 +1,8 @@
+package taxi.dao.mapper;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface RowFetcher<T> {
+    T fetch() throws SQLException;
+}
@@ -0,0 +1,32 @@
+package taxi.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public interface RowMapper<T> {
+    RowReader<T> bind(Columns columns) throws SQLException;
+
+    default List<T> mapAll(ResultSet resultSet) throws SQLException {
+        RowReader<T> reader = bind(Columns.of(resultSet));
+        List<T> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            rows.add(reader.read(resultSet));
+        }
+        return rows;
+    }
+
+    default RowFetcher<T> fetcher(ResultSet resultSet) throws SQLException {
+        RowReader<T> reader = bind(Columns.of(resultSet));
+        return () -> resultSet.next() ? reader.read(resultSet) : null;
+    }
+
+    default Optional<T> mapFirst(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return Optional.empty();
+        }
+        return Optional.of(bind(Columns.of(resultSet)).read(resultSet));
+    }
+}
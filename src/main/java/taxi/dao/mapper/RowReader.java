@@ -0,0 +1,8 @@
+package taxi.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public interface RowReader<T> {
+    T read(ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,22 @@
+package taxi.dao.mapper;
+
+import java.sql.SQLException;
+import taxi.model.Shift;
+
+public class ShiftMapper implements RowMapper<Shift> {
+    @Override
+    public RowReader<Shift> bind(Columns columns) throws SQLException {
+        int id = columns.indexOf("id");
+        int driverId = columns.indexOf("driver_id");
+        int startsAt = columns.indexOf("starts_at");
+        int endsAt = columns.indexOf("ends_at");
+        return resultSet -> {
+            Shift shift = new Shift();
+            shift.setId(resultSet.getLong(id));
+            shift.setDriverId(resultSet.getLong(driverId));
+            shift.setStartTime(resultSet.getTimestamp(startsAt).getTime());
+            shift.setEndTime(resultSet.getTimestamp(endsAt).getTime());
+            return shift;
+        };
+    }
+}
@@ -1,6 +1,10 @@
 package taxi.exception;
 
 public class DataProcessingException extends RuntimeException {
+    public DataProcessingException(String message) {
+        super(message);
+    }
+
     public DataProcessingException(String message, Throwable cause) {
         super(message, cause);
     }
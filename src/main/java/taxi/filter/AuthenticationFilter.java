@@ -12,6 +12,7 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import taxi.lib.RequestContext;
 
 public class AuthenticationFilter implements Filter {
     private final Set<String> allowedUrls = new HashSet<>();
@@ -30,7 +31,12 @@ public class AuthenticationFilter implements Filter {
         HttpSession session = req.getSession();
         Long driverId = (Long) session.getAttribute("driverId");
         if (driverId != null || allowedUrls.contains(req.getServletPath())) {
-            chain.doFilter(req, resp);
+            RequestContext.open(driverId);
+            try {
+                chain.doFilter(req, resp);
+            } finally {
+                RequestContext.close();
+            }
             return;
         }
         resp.sendRedirect(req.getContextPath() + "/login");
@@ -0,0 +1,22 @@
+package taxi.filter;
+
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import taxi.lib.IdentityMap;
+
+public class IdentityMapFilter implements Filter {
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        IdentityMap.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            IdentityMap.close();
+        }
+    }
+}
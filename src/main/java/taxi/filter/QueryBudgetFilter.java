@@ -0,0 +1,31 @@
+package taxi.filter;
+
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import taxi.lib.QueryBudget;
+import taxi.util.QueryStats;
+
+public class QueryBudgetFilter implements Filter {
+    private final QueryBudget queryBudget = QueryBudget.getInstance();
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!queryBudget.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest req = (HttpServletRequest) request;
+        QueryStats stats = queryBudget.open(req.getMethod(), req.getServletPath());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            queryBudget.close(stats);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package taxi.filter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.lib.AdaptiveConcurrencyLimiter;
+
+public class RateLimitFilter implements Filter {
+    private static final Logger logger = LogManager.getLogger(RateLimitFilter.class);
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final int LOGIN_CAPACITY = 10;
+    private static final double LOGIN_TOKENS_PER_SECOND = 1;
+    private static final int LOGIN_ACCOUNT_CAPACITY = 5;
+    private static final double LOGIN_ACCOUNT_TOKENS_PER_SECOND = 0.2;
+    private static final int MAX_LOGIN_LENGTH = 255;
+    private static final int WRITE_IP_CAPACITY = 50;
+    private static final double WRITE_IP_TOKENS_PER_SECOND = 10;
+    private static final int WRITE_DRIVER_CAPACITY = 20;
+    private static final double WRITE_DRIVER_TOKENS_PER_SECOND = 5;
+    private static final String INGESTION_URL = "/cars/locations";
+    private static final Pattern CAR_ID = Pattern.compile("\\d{1,19}");
+    private static final int INGESTION_CAR_CAPACITY = 100;
+    private static final double INGESTION_CAR_TOKENS_PER_SECOND = 20;
+    private static final int MAX_BUCKETS = 100000;
+    private static final long BUCKET_IDLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long FORCED_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String OVERLOAD_RETRY_AFTER_SECONDS = "1";
+    private final Set<String> unlimitedUrls = Set.of("/", "/index", "/logout", "/cars/events");
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter =
+            AdaptiveConcurrencyLimiter.getInstance();
+    private boolean enabled = true;
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        enabled = Boolean.parseBoolean(System.getProperty("taxi.ratelimit.enabled",
+                String.valueOf(enabled)));
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpServletResponse resp = (HttpServletResponse) response;
+        String path = req.getServletPath();
+        if (!enabled || unlimitedUrls.contains(path)) {
+            chain.doFilter(req, resp);
+            return;
+        }
+        TokenBucket exhausted = findExhaustedBucket(req, path);
+        if (exhausted != null) {
+            resp.setHeader("Retry-After",
+                    String.valueOf(Math.max(1, exhausted.getSecondsUntilAvailable())));
+            resp.sendError(SC_TOO_MANY_REQUESTS, "Too many requests");
+            return;
+        }
+        if (INGESTION_URL.equals(path)) {
+            chain.doFilter(req, resp);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            logger.warn("Shedding request, concurrency limit reached. Params: path = {}, "
+                    + "limit = {}", path, concurrencyLimiter.getLimit());
+            resp.setHeader("Retry-After", OVERLOAD_RETRY_AFTER_SECONDS);
+            resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service overloaded");
+            return;
+        }
+        try {
+            chain.doFilter(req, resp);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private TokenBucket findExhaustedBucket(HttpServletRequest req, String path) {
+        String ip = req.getRemoteAddr();
+        boolean post = "POST".equals(req.getMethod());
+        if ("/login".equals(path)) {
+            return post ? findExhaustedLoginBucket(ip, req.getParameter("login")) : null;
+        }
+        if (!post && !path.endsWith("/delete")) {
+            return null;
+        }
+        if (INGESTION_URL.equals(path)) {
+            String carId = req.getParameter("carId");
+            if (carId == null || !CAR_ID.matcher(carId).matches()) {
+                return null;
+            }
+            return acquire("ingest:" + carId, INGESTION_CAR_CAPACITY,
+                    INGESTION_CAR_TOKENS_PER_SECOND);
+        }
+        HttpSession session = req.getSession(false);
+        Object driverId = session == null ? null : session.getAttribute("driverId");
+        if (driverId != null) {
+            TokenBucket driverBucket = acquire("driver:" + driverId,
+                    WRITE_DRIVER_CAPACITY, WRITE_DRIVER_TOKENS_PER_SECOND);
+            if (driverBucket != null) {
+                return driverBucket;
+            }
+        }
+        return acquire("write:" + ip, WRITE_IP_CAPACITY, WRITE_IP_TOKENS_PER_SECOND);
+    }
+
+    private TokenBucket findExhaustedLoginBucket(String ip, String login) {
+        TokenBucket ipBucket = acquire("login:" + ip, LOGIN_CAPACITY, LOGIN_TOKENS_PER_SECOND);
+        if (ipBucket != null || login == null || login.isEmpty()
+                || login.length() > MAX_LOGIN_LENGTH) {
+            return ipBucket;
+        }
+        return acquire("login-account:" + login, LOGIN_ACCOUNT_CAPACITY,
+                LOGIN_ACCOUNT_TOKENS_PER_SECOND);
+    }
+
+    private TokenBucket acquire(String key, int capacity, double tokensPerSecond) {
+        sweepIdleBuckets();
+        TokenBucket bucket = buckets.computeIfAbsent(key,
+                k -> new TokenBucket(capacity, tokensPerSecond));
+        return bucket.tryAcquire() ? null : bucket;
+    }
+
+    private void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        long last = lastSweep.get();
+        long interval = buckets.size() > MAX_BUCKETS
+                ? FORCED_SWEEP_INTERVAL_NANOS : SWEEP_INTERVAL_NANOS;
+        if (now - last > interval && lastSweep.compareAndSet(last, now)) {
+            buckets.values().removeIf(bucket -> bucket.isIdleSince(now - BUCKET_IDLE_NANOS));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package taxi.filter;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucket {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+    private volatile long lastUsed;
+
+    public TokenBucket(int capacity, double tokensPerSecond) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+        this.lastUsed = lastRefill;
+    }
+
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        lastUsed = now;
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens--;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized long getSecondsUntilAvailable() {
+        double missing = 1 - tokens;
+        if (missing <= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(missing / tokensPerNano / NANOS_PER_SECOND);
+    }
+
+    public boolean isIdleSince(long nanoTime) {
+        return lastUsed < nanoTime;
+    }
+}
@@ -0,0 +1,82 @@
+package taxi.lib;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AdaptiveConcurrencyLimiter {
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 4;
+    private static final int MAX_LIMIT = 200;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final int BASELINE_WINDOW = 1000;
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final AdaptiveConcurrencyLimiter instance =
+            new AdaptiveConcurrencyLimiter(INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT);
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Baseline> baselines = new HashMap<>();
+    private volatile double limit;
+    private long lastDecrease;
+
+    private AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public static AdaptiveConcurrencyLimiter getInstance() {
+        return instance;
+    }
+
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > (int) limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // Each DAO operation keeps its own baseline, so a slow but healthy query
+    // is never compared against the fastest lookup in the application.
+    public synchronized void onSample(String operation, long latencyNanos) {
+        Baseline baseline = baselines.computeIfAbsent(operation, k -> new Baseline());
+        baseline.windowMinNanos = Math.min(baseline.windowMinNanos, latencyNanos);
+        if (++baseline.windowSamples >= BASELINE_WINDOW) {
+            baseline.baselineNanos = baseline.windowMinNanos;
+            baseline.windowMinNanos = Long.MAX_VALUE;
+            baseline.windowSamples = 0;
+        }
+        baseline.baselineNanos = Math.min(baseline.baselineNanos, latencyNanos);
+        long now = System.nanoTime();
+        if (latencyNanos > baseline.baselineNanos * LATENCY_TOLERANCE) {
+            if (now - lastDecrease >= DECREASE_INTERVAL_NANOS) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                lastDecrease = now;
+            }
+        } else if (inFlight.get() >= (int) limit - 1) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private static class Baseline {
+        private long baselineNanos = Long.MAX_VALUE;
+        private long windowMinNanos = Long.MAX_VALUE;
+        private int windowSamples;
+    }
+}
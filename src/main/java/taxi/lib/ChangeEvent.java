@@ -0,0 +1,83 @@
+package taxi.lib;
+
+import java.util.List;
+
+public class ChangeEvent {
+    private final Entity entity;
+    private final Long entityId;
+    private final Operation operation;
+    private final List<Long> relatedIds;
+    private final String origin;
+    private final long sequence;
+
+    public ChangeEvent(Entity entity, Long entityId, Operation operation) {
+        this(entity, entityId, operation, List.of());
+    }
+
+    public ChangeEvent(Entity entity, Long entityId, Operation operation,
+                       List<Long> relatedIds) {
+        this(entity, entityId, operation, relatedIds, EventBus.NODE_ID, 0);
+    }
+
+    public ChangeEvent(Entity entity, Long entityId, Operation operation,
+                       List<Long> relatedIds, String origin, long sequence) {
+        this.entity = entity;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.relatedIds = List.copyOf(relatedIds);
+        this.origin = origin;
+        this.sequence = sequence;
+    }
+
+    public Entity getEntity() {
+        return entity;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public List<Long> getRelatedIds() {
+        return relatedIds;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isRemote() {
+        return !EventBus.NODE_ID.equals(origin);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{"
+                + "entity=" + entity
+                + ", entityId=" + entityId
+                + ", operation=" + operation
+                + ", relatedIds=" + relatedIds
+                + ", origin='" + origin + '\''
+                + '}';
+    }
+
+    public enum Entity {
+        CAR,
+        DRIVER,
+        MANUFACTURER,
+        SHIFT
+    }
+
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+}
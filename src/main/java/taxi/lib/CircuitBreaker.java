@@ -0,0 +1,116 @@
+package taxi.lib;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class CircuitBreaker {
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+    private static final Map<String, CircuitBreaker> breakers = new ConcurrentSkipListMap<>();
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long OPEN_MILLIS = 10000;
+    private static final int HALF_OPEN_PROBES = 3;
+    private final String name;
+    private final Map<String, LongAdder> transitions = new ConcurrentHashMap<>();
+    private volatile State state = State.CLOSED;
+    private volatile int consecutiveFailures;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private CircuitBreaker(String name) {
+        this.name = name;
+    }
+
+    public static CircuitBreaker forName(String name) {
+        return breakers.computeIfAbsent(name, CircuitBreaker::new);
+    }
+
+    public static Collection<CircuitBreaker> getAll() {
+        return Collections.unmodifiableCollection(breakers.values());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Map<String, Long> getTransitionCounts() {
+        Map<String, Long> counts = new ConcurrentSkipListMap<>();
+        transitions.forEach((transition, count) -> counts.put(transition, count.sum()));
+        return counts;
+    }
+
+    public boolean tryAcquire() {
+        return state == State.CLOSED || tryAcquireSlow();
+    }
+
+    public void onSuccess() {
+        if (state == State.CLOSED) {
+            if (consecutiveFailures != 0) {
+                consecutiveFailures = 0;
+            }
+            return;
+        }
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+                if (++probeSuccesses >= HALF_OPEN_PROBES) {
+                    transition(State.CLOSED);
+                }
+            }
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transition(State.OPEN);
+        } else if (state == State.CLOSED && ++consecutiveFailures >= FAILURE_THRESHOLD) {
+            transition(State.OPEN);
+        }
+    }
+
+    private synchronized boolean tryAcquireSlow() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < OPEN_MILLIS) {
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (probesInFlight + probeSuccesses >= HALF_OPEN_PROBES) {
+            return false;
+        }
+        probesInFlight++;
+        return true;
+    }
+
+    private void transition(State target) {
+        logger.warn("Circuit breaker state changed. Params: name = {}, from = {}, to = {}",
+                name, state, target);
+        transitions.computeIfAbsent(state + "->" + target, key -> new LongAdder()).increment();
+        state = target;
+        consecutiveFailures = 0;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (target == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
@@ -0,0 +1,76 @@
+package taxi.lib;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import taxi.exception.DataProcessingException;
+import taxi.util.QueryTimeouts;
+
+public class DaoGuard implements InvocationHandler {
+    private static final String CONNECTION_STATE_CLASS = "08";
+    private static final AdaptiveConcurrencyLimiter concurrencyLimiter =
+            AdaptiveConcurrencyLimiter.getInstance();
+    private final Object dao;
+    private final String daoName;
+    private final CircuitBreaker circuitBreaker;
+
+    private DaoGuard(Object dao, String daoName) {
+        this.dao = dao;
+        this.daoName = daoName;
+        this.circuitBreaker = CircuitBreaker.forName(daoName);
+    }
+
+    public static Object wrap(Class<?> daoInterface, Object dao) {
+        return Proxy.newProxyInstance(daoInterface.getClassLoader(),
+                new Class<?>[] {daoInterface}, new DaoGuard(dao, daoInterface.getSimpleName()));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(dao, args);
+        }
+        String operation = daoName + "." + method.getName();
+        if (!circuitBreaker.tryAcquire()) {
+            throw new DataProcessingException("Circuit breaker " + daoName
+                    + " is open, rejected " + operation);
+        }
+        String previousOperation = QueryTimeouts.enter(operation);
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(dao, args);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (InvocationTargetException e) {
+            if (isUnavailable(e.getCause())) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            throw e.getCause();
+        } finally {
+            concurrencyLimiter.onSample(operation, System.nanoTime() - start);
+            QueryTimeouts.exit(previousOperation);
+        }
+    }
+
+    private static boolean isUnavailable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String state = ((SQLException) cause).getSQLState();
+                return state != null && state.startsWith(CONNECTION_STATE_CLASS);
+            }
+        }
+        return false;
+    }
+}
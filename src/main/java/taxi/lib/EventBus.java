@@ -0,0 +1,85 @@
+package taxi.lib;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class EventBus {
+    public static final String NODE_ID = UUID.randomUUID().toString();
+    private static final Logger logger = LogManager.getLogger(EventBus.class);
+    private static final EventBus instance = new EventBus();
+    private static final int ASYNC_QUEUE_CAPACITY = 10000;
+    private final List<Consumer<ChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<ChangeEvent>> asyncSubscribers = new CopyOnWriteArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    private final ThreadPoolExecutor asyncDispatcher = new ThreadPoolExecutor(1, 1,
+            0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(ASYNC_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "event-bus-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private EventBus() {
+    }
+
+    public static EventBus getInstance() {
+        return instance;
+    }
+
+    public void subscribe(Consumer<ChangeEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void subscribeAsync(Consumer<ChangeEvent> subscriber) {
+        asyncSubscribers.add(subscriber);
+    }
+
+    public void publish(ChangeEvent event) {
+        for (Consumer<ChangeEvent> subscriber : subscribers) {
+            notify(subscriber, event);
+        }
+        if (asyncSubscribers.isEmpty()) {
+            return;
+        }
+        try {
+            asyncDispatcher.execute(() -> asyncSubscribers
+                    .forEach(subscriber -> notify(subscriber, event)));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            logger.warn("Dropped change event for async subscribers. Params: event = {}",
+                    event);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public void shutdown() {
+        asyncDispatcher.shutdown();
+        try {
+            asyncDispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        subscribers.clear();
+        asyncSubscribers.clear();
+    }
+
+    private void notify(Consumer<ChangeEvent> subscriber, ChangeEvent event) {
+        try {
+            subscriber.accept(event);
+        } catch (RuntimeException e) {
+            logger.error("Change event subscriber failed. Params: event = {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package taxi.lib;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class IdentityMap {
+    private static final ThreadLocal<Map<Class<?>, Map<Long, Object>>> scope =
+            new ThreadLocal<>();
+
+    private IdentityMap() {
+    }
+
+    public static void open() {
+        scope.set(new HashMap<>());
+    }
+
+    public static void close() {
+        scope.remove();
+    }
+
+    public static <T> T get(Class<T> type, Long id) {
+        Map<Class<?>, Map<Long, Object>> entities = scope.get();
+        if (entities == null || id == null) {
+            return null;
+        }
+        Map<Long, Object> byId = entities.get(type);
+        return byId == null ? null : type.cast(byId.get(id));
+    }
+
+    public static <T> T putIfAbsent(Class<T> type, Long id, T entity) {
+        Map<Class<?>, Map<Long, Object>> entities = scope.get();
+        if (entities == null || id == null) {
+            return entity;
+        }
+        Object existing = entities.computeIfAbsent(type, key -> new HashMap<>())
+                .putIfAbsent(id, entity);
+        return existing == null ? entity : type.cast(existing);
+    }
+
+    public static void evict(Class<?> type, Long id) {
+        Map<Class<?>, Map<Long, Object>> entities = scope.get();
+        if (entities != null) {
+            Map<Long, Object> byId = entities.get(type);
+            if (byId != null) {
+                byId.remove(id);
+            }
+        }
+    }
+}
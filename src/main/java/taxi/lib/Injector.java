@@ -14,6 +14,7 @@ import java.util.Map;
 public class Injector {
     private static final Map<String, Injector> injectors = new HashMap<>();
     private final Map<Class<?>, Object> instanceOfClasses = new HashMap<>();
+    private final Map<Class<?>, Object> daoProxies = new HashMap<>();
     private final List<Class<?>> classes = new ArrayList<>();
 
     private Injector(String mainPackageName) {
@@ -52,11 +53,39 @@ public class Injector {
             }
         }
         if (newInstanceOfClass == null) {
-            return getNewInstance(clazz);
+            newInstanceOfClass = getNewInstance(clazz);
+        }
+        if (clazz.isAnnotationPresent(Dao.class)) {
+            Object dao = newInstanceOfClass;
+            return daoProxies.computeIfAbsent(certainInterface,
+                    daoInterface -> DaoGuard.wrap(daoInterface, dao));
         }
         return newInstanceOfClass;
     }
 
+    public List<Object> getServices() {
+        List<Object> services = new ArrayList<>();
+        for (Class<?> clazz : classes) {
+            if (clazz.isAnnotationPresent(Service.class) && clazz.getInterfaces().length > 0) {
+                services.add(getInstance(clazz.getInterfaces()[0]));
+            }
+        }
+        return services;
+    }
+
+    public int warmUp() {
+        int count = 0;
+        for (Class<?> clazz : classes) {
+            if (clazz.isAnnotationPresent(Service.class) || clazz.isAnnotationPresent(Dao.class)) {
+                for (Class<?> singleInterface : clazz.getInterfaces()) {
+                    getInstance(singleInterface);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     private Class<?> findClassExtendingInterface(Class<?> certainInterface) {
         for (Class<?> clazz : classes) {
             Class<?>[] interfaces = clazz.getInterfaces();
@@ -126,12 +155,13 @@ public class Injector {
         }
         ArrayList<Class<?>> classes = new ArrayList<>();
         for (File directory : dirs) {
-            classes.addAll(findClasses(directory, packageName));
+            classes.addAll(findClasses(directory, packageName, classLoader));
         }
         return classes;
     }
 
-    private static List<Class<?>> findClasses(File directory, String packageName)
+    private static List<Class<?>> findClasses(File directory, String packageName,
+                                              ClassLoader classLoader)
             throws ClassNotFoundException {
         List<Class<?>> classes = new ArrayList<>();
         if (!directory.exists()) {
@@ -145,10 +175,11 @@ public class Injector {
                         throw new RuntimeException("File name shouldn't consist point.");
                     }
                     classes.addAll(findClasses(file, packageName + "."
-                            + file.getName()));
+                            + file.getName(), classLoader));
                 } else if (file.getName().endsWith(".class")) {
                     classes.add(Class.forName(packageName + '.'
-                            + file.getName().substring(0, file.getName().length() - 6)));
+                            + file.getName().substring(0, file.getName().length() - 6),
+                            false, classLoader));
                 }
             }
         }
@@ -0,0 +1,123 @@
+package taxi.lib;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.util.QueryStats;
+
+public class QueryBudget {
+    private static final Logger logger = LogManager.getLogger(QueryBudget.class);
+    private static final String FILE_PROPERTY = "taxi.querybudget.file";
+    private static final String RESOURCE = "query-budgets.properties";
+    private static final String DEFAULT_KEY = "default";
+    private static final int MAX_TRACKED_ENDPOINTS = 1000;
+    private static final QueryBudget instance = new QueryBudget();
+    private final boolean strict = Boolean.getBoolean("taxi.querybudget.strict");
+    private final boolean enabled = Boolean.parseBoolean(
+            System.getProperty("taxi.querybudget.enabled", String.valueOf(strict)));
+    private final Properties budgets = load();
+    private final Map<String, QueryStats.Limits> limits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> overBudgetByEndpoint = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder overBudget = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private QueryBudget() {
+    }
+
+    public static QueryBudget getInstance() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public QueryStats open(String method, String path) {
+        QueryStats.Limits pathLimits = limits.get(path);
+        if (pathLimits == null) {
+            pathLimits = limitsOf(path);
+            if (limits.size() < MAX_TRACKED_ENDPOINTS) {
+                limits.put(path, pathLimits);
+            }
+        }
+        QueryStats stats = new QueryStats(method + " " + path, pathLimits, strict);
+        QueryStats.open(stats);
+        return stats;
+    }
+
+    public void close(QueryStats stats) {
+        QueryStats.close();
+        requests.increment();
+        if (stats.isRejected()) {
+            rejected.increment();
+        }
+        if (!stats.isOverBudget()) {
+            return;
+        }
+        overBudget.increment();
+        LongAdder counter = overBudgetByEndpoint.get(stats.getEndpoint());
+        if (counter == null && overBudgetByEndpoint.size() < MAX_TRACKED_ENDPOINTS) {
+            counter = overBudgetByEndpoint.computeIfAbsent(stats.getEndpoint(),
+                    endpoint -> new LongAdder());
+        }
+        if (counter != null) {
+            counter.increment();
+        }
+        logger.warn("Query budget exceeded. Params: endpoint = {}, {}", stats.getEndpoint(),
+                stats.getSummary());
+    }
+
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("requests", requests.sum());
+        statistics.put("over_budget", overBudget.sum());
+        statistics.put("rejected", rejected.sum());
+        return statistics;
+    }
+
+    public Map<String, Long> getOverBudgetCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        overBudgetByEndpoint.forEach((endpoint, counter) -> counts.put(endpoint, counter.sum()));
+        return counts;
+    }
+
+    private QueryStats.Limits limitsOf(String path) {
+        return new QueryStats.Limits((int) limitOf(path, "statements"),
+                (int) limitOf(path, "connections"), limitOf(path, "rows"),
+                (int) limitOf(path, "repeats"));
+    }
+
+    private long limitOf(String path, String counter) {
+        String value = budgets.getProperty(path + "." + counter,
+                budgets.getProperty(DEFAULT_KEY + "." + counter));
+        return value == null ? Integer.MAX_VALUE : Long.parseLong(value.trim());
+    }
+
+    private static Properties load() {
+        String file = System.getProperty(FILE_PROPERTY);
+        Properties properties = new Properties();
+        try (InputStream input = file == null
+                ? QueryBudget.class.getClassLoader().getResourceAsStream(RESOURCE)
+                : Files.newInputStream(Paths.get(file))) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Can't read query budgets from "
+                    + (file == null ? RESOURCE : file), e);
+        }
+        logger.info("Loaded query budgets. Params: source = {}, entries = {}",
+                file == null ? RESOURCE : file, properties.size());
+        return properties;
+    }
+}
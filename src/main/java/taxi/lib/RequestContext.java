@@ -0,0 +1,20 @@
+package taxi.lib;
+
+public class RequestContext {
+    private static final ThreadLocal<Long> driverId = new ThreadLocal<>();
+
+    private RequestContext() {
+    }
+
+    public static void open(Long currentDriverId) {
+        driverId.set(currentDriverId);
+    }
+
+    public static void close() {
+        driverId.remove();
+    }
+
+    public static Long getDriverId() {
+        return driverId.get();
+    }
+}
@@ -0,0 +1,18 @@
+package taxi.lib;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Scheduled {
+    long fixedRate() default 0;
+
+    long fixedDelay() default 0;
+
+    long initialDelay() default 0;
+
+    long jitter() default 0;
+}
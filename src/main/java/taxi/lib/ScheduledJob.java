@@ -0,0 +1,107 @@
+package taxi.lib;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ScheduledJob implements Delayed {
+    private final String name;
+    private final Runnable task;
+    private final long periodNanos;
+    private final boolean fixedRate;
+    private final long jitterNanos;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private volatile long lastNanos;
+    private volatile long scheduledAt;
+    private volatile long dueAt;
+
+    ScheduledJob(String name, Runnable task, long periodMillis, boolean fixedRate,
+                 long jitterMillis) {
+        this.name = name;
+        this.task = task;
+        this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+        this.fixedRate = fixedRate;
+        this.jitterNanos = TimeUnit.MILLISECONDS.toNanos(jitterMillis);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        long count = runs.sum();
+        statistics.put("runs", count);
+        statistics.put("failures", failures.sum());
+        statistics.put("skipped", skipped.sum());
+        statistics.put("last_millis", TimeUnit.NANOSECONDS.toMillis(lastNanos));
+        statistics.put("max_millis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        statistics.put("mean_millis", count == 0 ? 0
+                : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count));
+        return statistics;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(dueAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(dueAt, ((ScheduledJob) other).dueAt);
+    }
+
+    boolean isFixedRate() {
+        return fixedRate;
+    }
+
+    void scheduleAfter(long delayMillis) {
+        scheduledAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        dueAt = scheduledAt + jitter();
+    }
+
+    void scheduleNext() {
+        long base = fixedRate ? scheduledAt + periodNanos : System.nanoTime() + periodNanos;
+        scheduledAt = fixedRate ? Math.max(base, System.nanoTime()) : base;
+        dueAt = scheduledAt + jitter();
+    }
+
+    boolean tryStart() {
+        if (running.compareAndSet(false, true)) {
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    void run() {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            lastNanos = elapsed;
+            totalNanos.add(elapsed);
+            maxNanos.accumulate(elapsed);
+            runs.increment();
+            running.set(false);
+        }
+    }
+
+    private long jitter() {
+        return jitterNanos == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterNanos + 1);
+    }
+}
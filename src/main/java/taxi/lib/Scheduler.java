@@ -0,0 +1,177 @@
+package taxi.lib;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class Scheduler {
+    private static final Logger logger = LogManager.getLogger(Scheduler.class);
+    private static final Scheduler instance = new Scheduler();
+    private static final int WORKER_THREADS = Integer.getInteger("taxi.scheduler.threads", 2);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private final DelayQueue<ScheduledJob> queue = new DelayQueue<>();
+    private final Map<String, ScheduledJob> jobs = new ConcurrentSkipListMap<>();
+    private final AtomicInteger workerNumber = new AtomicInteger();
+    private ThreadPoolExecutor workers;
+    private Thread dispatcher;
+
+    private Scheduler() {
+    }
+
+    public static Scheduler getInstance() {
+        return instance;
+    }
+
+    public Collection<ScheduledJob> getJobs() {
+        return Collections.unmodifiableCollection(jobs.values());
+    }
+
+    public ScheduledJob scheduleAtFixedRate(String name, Runnable task, long initialDelayMillis,
+                                            long periodMillis, long jitterMillis) {
+        return schedule(new ScheduledJob(name, task, periodMillis, true, jitterMillis),
+                initialDelayMillis);
+    }
+
+    public ScheduledJob scheduleWithFixedDelay(String name, Runnable task,
+                                               long initialDelayMillis, long delayMillis,
+                                               long jitterMillis) {
+        return schedule(new ScheduledJob(name, task, delayMillis, false, jitterMillis),
+                initialDelayMillis);
+    }
+
+    public int register(Object bean) {
+        int count = 0;
+        for (Method method : bean.getClass().getDeclaredMethods()) {
+            Scheduled scheduled = method.getAnnotation(Scheduled.class);
+            if (scheduled == null) {
+                continue;
+            }
+            String name = bean.getClass().getSimpleName() + "." + method.getName();
+            if (method.getParameterCount() != 0
+                    || (scheduled.fixedRate() > 0) == (scheduled.fixedDelay() > 0)) {
+                throw new RuntimeException("Scheduled method " + name + " must take no arguments"
+                        + " and declare exactly one of fixedRate or fixedDelay");
+            }
+            method.setAccessible(true);
+            Runnable task = () -> invoke(method, bean);
+            if (scheduled.fixedRate() > 0) {
+                scheduleAtFixedRate(name, task, scheduled.initialDelay(), scheduled.fixedRate(),
+                        scheduled.jitter());
+            } else {
+                scheduleWithFixedDelay(name, task, scheduled.initialDelay(),
+                        scheduled.fixedDelay(), scheduled.jitter());
+            }
+            count++;
+        }
+        return count;
+    }
+
+    public synchronized void start() {
+        if (dispatcher != null) {
+            return;
+        }
+        workers = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 0,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), this::newWorker);
+        dispatcher = new Thread(this::dispatch, "scheduler-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        logger.info("Scheduler started. Params: jobs = {}, workers = {}", jobs.size(),
+                WORKER_THREADS);
+    }
+
+    public synchronized void shutdown() {
+        if (dispatcher == null) {
+            return;
+        }
+        dispatcher.interrupt();
+        workers.shutdown();
+        try {
+            dispatcher.join(SHUTDOWN_TIMEOUT_MILLIS);
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.warn("Scheduler jobs did not finish in time. Params: timeout = {} ms",
+                        SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatcher = null;
+        workers = null;
+        queue.clear();
+        jobs.clear();
+        logger.info("Scheduler stopped.");
+    }
+
+    private Thread newWorker(Runnable runnable) {
+        Thread thread = new Thread(runnable, "scheduler-worker-" + workerNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private ScheduledJob schedule(ScheduledJob job, long initialDelayMillis) {
+        if (jobs.putIfAbsent(job.getName(), job) != null) {
+            throw new RuntimeException("Job " + job.getName() + " is already scheduled");
+        }
+        job.scheduleAfter(initialDelayMillis);
+        queue.add(job);
+        logger.info("Scheduled job. Params: name = {}", job.getName());
+        return job;
+    }
+
+    private void dispatch() {
+        ThreadPoolExecutor executor = workers;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ScheduledJob job = queue.take();
+                if (job.isFixedRate()) {
+                    job.scheduleNext();
+                    queue.add(job);
+                }
+                if (!job.tryStart()) {
+                    logger.warn("Skipped job run, previous run is still in progress. "
+                            + "Params: name = {}", job.getName());
+                    continue;
+                }
+                executor.execute(() -> execute(job, executor));
+            }
+        } catch (InterruptedException | RejectedExecutionException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void execute(ScheduledJob job, ThreadPoolExecutor executor) {
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            logger.error("Scheduled job failed. Params: name = {}", job.getName(), e);
+        }
+        if (!job.isFixedRate() && !executor.isShutdown()) {
+            job.scheduleNext();
+            queue.add(job);
+        }
+    }
+
+    private static void invoke(Method method, Object bean) {
+        try {
+            method.invoke(bean);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Scheduled method " + method.getName() + " failed",
+                    e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Can't invoke scheduled method " + method.getName(), e);
+        }
+    }
+}
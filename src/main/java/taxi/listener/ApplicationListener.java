@@ -0,0 +1,58 @@
+package taxi.listener;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.lib.EventBus;
+import taxi.lib.Injector;
+import taxi.lib.Scheduler;
+import taxi.service.AuditService;
+import taxi.service.CarEventFeed;
+import taxi.service.CarService;
+import taxi.service.ChangePropagationService;
+import taxi.service.ShiftService;
+import taxi.service.ZoneService;
+
+public class ApplicationListener implements ServletContextListener {
+    private static final Logger logger = LogManager.getLogger(ApplicationListener.class);
+    private static final Injector injector = Injector.getInstance("taxi");
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        CarEventFeed carEventFeed = (CarEventFeed) injector.getInstance(CarEventFeed.class);
+        EventBus.getInstance().subscribeAsync(carEventFeed::onChange);
+        EventBus.getInstance().subscribe(getAuditService()::onChange);
+        CarService carService = (CarService) injector.getInstance(CarService.class);
+        EventBus.getInstance().subscribe(carService::onChange);
+        ShiftService shiftService = (ShiftService) injector.getInstance(ShiftService.class);
+        EventBus.getInstance().subscribe(shiftService::onChange);
+        ZoneService zoneService = (ZoneService) injector.getInstance(ZoneService.class);
+        EventBus.getInstance().subscribe(zoneService::onChange);
+        try {
+            getChangePropagationService().start();
+        } catch (RuntimeException e) {
+            logger.error("Failed to start change propagation, "
+                    + "changes from other nodes will not be received.", e);
+        }
+        Scheduler scheduler = Scheduler.getInstance();
+        injector.getServices().forEach(scheduler::register);
+        scheduler.start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        Scheduler.getInstance().shutdown();
+        getChangePropagationService().stop();
+        EventBus.getInstance().shutdown();
+        getAuditService().stop();
+    }
+
+    private AuditService getAuditService() {
+        return (AuditService) injector.getInstance(AuditService.class);
+    }
+
+    private ChangePropagationService getChangePropagationService() {
+        return (ChangePropagationService) injector.getInstance(ChangePropagationService.class);
+    }
+}
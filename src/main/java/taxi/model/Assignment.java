@@ -0,0 +1,62 @@
+package taxi.model;
+
+import java.util.Objects;
+
+public class Assignment {
+    private final long carId;
+    private final long driverId;
+    private final Result result;
+
+    public Assignment(long carId, long driverId, Result result) {
+        this.carId = carId;
+        this.driverId = driverId;
+        this.result = result;
+    }
+
+    public long getCarId() {
+        return carId;
+    }
+
+    public long getDriverId() {
+        return driverId;
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Assignment that = (Assignment) o;
+        return carId == that.carId && driverId == that.driverId && result == that.result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(carId, driverId, result);
+    }
+
+    @Override
+    public String toString() {
+        return "Assignment{"
+                + "carId=" + carId
+                + ", driverId=" + driverId
+                + ", result=" + result
+                + '}';
+    }
+
+    public enum Result {
+        ASSIGNED,
+        ALREADY_ASSIGNED,
+        UNASSIGNED,
+        NOT_ASSIGNED,
+        UNKNOWN_CAR,
+        UNKNOWN_DRIVER
+    }
+}
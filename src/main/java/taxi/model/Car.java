@@ -9,6 +9,7 @@ public class Car {
     private String model;
     private Manufacturer manufacturer;
     private List<Driver> drivers;
+    private long version;
 
     public Car() {
     }
@@ -51,6 +52,14 @@ public class Car {
         this.drivers = drivers;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Car{"
@@ -0,0 +1,82 @@
+package taxi.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class CarView {
+    private final long id;
+    private final String model;
+    private final long manufacturerId;
+    private final String manufacturerName;
+    private final String manufacturerCountry;
+    private final DriverView[] drivers;
+
+    public CarView(long id, String model, long manufacturerId, String manufacturerName,
+                   String manufacturerCountry, DriverView[] drivers) {
+        this.id = id;
+        this.model = model;
+        this.manufacturerId = manufacturerId;
+        this.manufacturerName = manufacturerName;
+        this.manufacturerCountry = manufacturerCountry;
+        this.drivers = drivers;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public long getManufacturerId() {
+        return manufacturerId;
+    }
+
+    public String getManufacturerName() {
+        return manufacturerName;
+    }
+
+    public String getManufacturerCountry() {
+        return manufacturerCountry;
+    }
+
+    public DriverView[] getDrivers() {
+        return drivers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CarView that = (CarView) o;
+        return id == that.id
+                && manufacturerId == that.manufacturerId
+                && Objects.equals(model, that.model)
+                && Objects.equals(manufacturerName, that.manufacturerName)
+                && Objects.equals(manufacturerCountry, that.manufacturerCountry)
+                && Arrays.equals(drivers, that.drivers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(id, model, manufacturerId, manufacturerName,
+                manufacturerCountry) + Arrays.hashCode(drivers);
+    }
+
+    @Override
+    public String toString() {
+        return "CarView{"
+                + "id=" + id
+                + ", model='" + model + '\''
+                + ", manufacturerId=" + manufacturerId
+                + ", manufacturerName='" + manufacturerName + '\''
+                + ", manufacturerCountry='" + manufacturerCountry + '\''
+                + ", drivers=" + Arrays.toString(drivers)
+                + '}';
+    }
+}
@@ -8,6 +8,7 @@ public class Driver {
     private String licenseNumber;
     private String login;
     private String password;
+    private long version;
 
     public Driver() {
     }
@@ -85,6 +86,14 @@ public class Driver {
         return Objects.hash(id, name, licenseNumber, login, password);
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Driver{"
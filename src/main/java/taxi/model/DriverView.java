@@ -0,0 +1,63 @@
+package taxi.model;
+
+import java.util.Objects;
+
+public class DriverView {
+    private final long id;
+    private final String name;
+    private final String licenseNumber;
+    private final String login;
+
+    public DriverView(long id, String name, String licenseNumber, String login) {
+        this.id = id;
+        this.name = name;
+        this.licenseNumber = licenseNumber;
+        this.login = login;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLicenseNumber() {
+        return licenseNumber;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DriverView that = (DriverView) o;
+        return id == that.id
+                && Objects.equals(name, that.name)
+                && Objects.equals(licenseNumber, that.licenseNumber)
+                && Objects.equals(login, that.login);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, licenseNumber, login);
+    }
+
+    @Override
+    public String toString() {
+        return "DriverView{"
+                + "id=" + id
+                + ", name='" + name + '\''
+                + ", licenseNumber='" + licenseNumber + '\''
+                + ", login='" + login + '\''
+                + '}';
+    }
+}
@@ -0,0 +1,34 @@
+package taxi.model;
+
+public class FeedEvent {
+    private final long id;
+    private final String type;
+    private final String data;
+
+    public FeedEvent(long id, String type, String data) {
+        this.id = id;
+        this.type = type;
+        this.data = data;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedEvent{"
+                + "id=" + id
+                + ", type='" + type + '\''
+                + ", data='" + data + '\''
+                + '}';
+    }
+}
@@ -0,0 +1,46 @@
+package taxi.model;
+
+import java.util.Objects;
+
+public class LabeledId {
+    private final long id;
+    private final String label;
+
+    public LabeledId(long id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LabeledId that = (LabeledId) o;
+        return id == that.id && Objects.equals(label, that.label);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, label);
+    }
+
+    @Override
+    public String toString() {
+        return "LabeledId{"
+                + "id=" + id
+                + ", label='" + label + '\''
+                + '}';
+    }
+}
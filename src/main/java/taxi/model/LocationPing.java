@@ -0,0 +1,63 @@
+package taxi.model;
+
+import java.util.Objects;
+
+public class LocationPing {
+    private final long carId;
+    private final double latitude;
+    private final double longitude;
+    private final long timestamp;
+
+    public LocationPing(long carId, double latitude, double longitude, long timestamp) {
+        this.carId = carId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.timestamp = timestamp;
+    }
+
+    public long getCarId() {
+        return carId;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LocationPing that = (LocationPing) o;
+        return carId == that.carId
+                && Double.compare(that.latitude, latitude) == 0
+                && Double.compare(that.longitude, longitude) == 0
+                && timestamp == that.timestamp;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(carId, latitude, longitude, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "LocationPing{"
+                + "carId=" + carId
+                + ", latitude=" + latitude
+                + ", longitude=" + longitude
+                + ", timestamp=" + timestamp
+                + '}';
+    }
+}
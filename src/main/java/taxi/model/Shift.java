@@ -0,0 +1,81 @@
+package taxi.model;
+
+import java.util.Objects;
+
+public class Shift {
+    private Long id;
+    private Long driverId;
+    private long startTime;
+    private long endTime;
+
+    public Shift() {
+    }
+
+    public Shift(Long driverId, long startTime, long endTime) {
+        this.driverId = driverId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getDriverId() {
+        return driverId;
+    }
+
+    public void setDriverId(Long driverId) {
+        this.driverId = driverId;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(long endTime) {
+        this.endTime = endTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Shift shift = (Shift) o;
+        return Objects.equals(id, shift.id)
+                && Objects.equals(driverId, shift.driverId)
+                && startTime == shift.startTime
+                && endTime == shift.endTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, driverId, startTime, endTime);
+    }
+
+    @Override
+    public String toString() {
+        return "Shift{"
+                + "id=" + id
+                + ", driverId=" + driverId
+                + ", startTime=" + startTime
+                + ", endTime=" + endTime
+                + '}';
+    }
+}
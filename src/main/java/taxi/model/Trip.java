@@ -0,0 +1,102 @@
+package taxi.model;
+
+import java.util.Objects;
+
+public class Trip {
+    private final long carId;
+    private final long driverId;
+    private final long startTime;
+    private final long endTime;
+    private final double startLatitude;
+    private final double startLongitude;
+    private final double endLatitude;
+    private final double endLongitude;
+    private final long fareCents;
+
+    public Trip(long carId, long driverId, long startTime, long endTime,
+                double startLatitude, double startLongitude,
+                double endLatitude, double endLongitude, long fareCents) {
+        this.carId = carId;
+        this.driverId = driverId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.startLatitude = startLatitude;
+        this.startLongitude = startLongitude;
+        this.endLatitude = endLatitude;
+        this.endLongitude = endLongitude;
+        this.fareCents = fareCents;
+    }
+
+    public long getCarId() {
+        return carId;
+    }
+
+    public long getDriverId() {
+        return driverId;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public double getStartLatitude() {
+        return startLatitude;
+    }
+
+    public double getStartLongitude() {
+        return startLongitude;
+    }
+
+    public double getEndLatitude() {
+        return endLatitude;
+    }
+
+    public double getEndLongitude() {
+        return endLongitude;
+    }
+
+    public long getFareCents() {
+        return fareCents;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Trip trip = (Trip) o;
+        return carId == trip.carId
+                && driverId == trip.driverId
+                && startTime == trip.startTime
+                && endTime == trip.endTime
+                && Double.compare(trip.startLatitude, startLatitude) == 0
+                && Double.compare(trip.startLongitude, startLongitude) == 0
+                && Double.compare(trip.endLatitude, endLatitude) == 0
+                && Double.compare(trip.endLongitude, endLongitude) == 0
+                && fareCents == trip.fareCents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(carId, driverId, startTime, endTime, startLatitude, startLongitude,
+                endLatitude, endLongitude, fareCents);
+    }
+
+    @Override
+    public String toString() {
+        return "Trip{"
+                + "carId=" + carId
+                + ", driverId=" + driverId
+                + ", startTime=" + startTime
+                + ", endTime=" + endTime
+                + ", fareCents=" + fareCents
+                + '}';
+    }
+}
@@ -0,0 +1,16 @@
+package taxi.service;
+
+import java.util.List;
+import java.util.Map;
+import taxi.audit.AuditRecord;
+import taxi.lib.ChangeEvent;
+
+public interface AuditService {
+    void onChange(ChangeEvent event);
+
+    List<AuditRecord> getAll(long from, long to);
+
+    Map<String, Long> getStatistics();
+
+    void stop();
+}
@@ -0,0 +1,75 @@
+package taxi.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import taxi.audit.AuditLog;
+import taxi.audit.AuditLogReader;
+import taxi.audit.AuditRecord;
+import taxi.lib.ChangeEvent;
+import taxi.lib.RequestContext;
+import taxi.lib.Service;
+
+@Service
+public class AuditServiceImpl implements AuditService {
+    private static final String DIRECTORY_PROPERTY = "taxi.audit.dir";
+    private static final String DEFAULT_DIRECTORY = "taxi-audit";
+    private static final long SEGMENT_BYTES =
+            Long.getLong("taxi.audit.segmentBytes", 64L * 1024 * 1024);
+    private static final long COMMIT_WINDOW_MILLIS =
+            Long.getLong("taxi.audit.commitWindowMillis", 5);
+    private final Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY,
+            Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY).toString()));
+    private final AtomicReference<AuditLog> auditLog = new AtomicReference<>();
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        getAuditLog().append(AuditRecord.of(event, RequestContext.getDriverId(),
+                System.currentTimeMillis()));
+    }
+
+    @Override
+    public List<AuditRecord> getAll(long from, long to) {
+        return new AuditLogReader(directory).getAll(from, to);
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        AuditLog current = auditLog.get();
+        if (current != null) {
+            statistics.put("written", current.getWrittenCount());
+            statistics.put("commits", current.getCommitCount());
+            statistics.put("lost", current.getLostCount());
+            statistics.put("pending", (long) current.getPendingCount());
+        }
+        return statistics;
+    }
+
+    @Override
+    public void stop() {
+        AuditLog current = auditLog.getAndSet(null);
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private AuditLog getAuditLog() {
+        AuditLog current = auditLog.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (auditLog) {
+            if (auditLog.get() == null) {
+                auditLog.set(AuditLog.open(directory, SEGMENT_BYTES, COMMIT_WINDOW_MILLIS));
+            }
+            return auditLog.get();
+        }
+    }
+}
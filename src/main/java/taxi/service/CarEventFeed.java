@@ -0,0 +1,13 @@
+package taxi.service;
+
+import taxi.lib.ChangeEvent;
+
+public interface CarEventFeed {
+    String RESET = "reset";
+
+    void onChange(ChangeEvent event);
+
+    void subscribe(FeedSubscriber subscriber, Long lastEventId);
+
+    void unsubscribe(FeedSubscriber subscriber);
+}
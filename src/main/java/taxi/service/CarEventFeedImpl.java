@@ -0,0 +1,81 @@
+package taxi.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.lib.ChangeEvent;
+import taxi.lib.Service;
+import taxi.model.FeedEvent;
+
+@Service
+public class CarEventFeedImpl implements CarEventFeed {
+    private static final Logger logger = LogManager.getLogger(CarEventFeedImpl.class);
+    private static final int REPLAY_CAPACITY = 256;
+    private final FeedEvent[] replay = new FeedEvent[REPLAY_CAPACITY];
+    private final List<FeedSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long nextId = 1;
+
+    @Override
+    public synchronized void onChange(ChangeEvent change) {
+        if (change.getEntity() != ChangeEvent.Entity.CAR) {
+            return;
+        }
+        String data = "{\"carId\":" + change.getEntityId()
+                + ",\"driverIds\":" + change.getRelatedIds().toString().replace(" ", "") + '}';
+        FeedEvent event = new FeedEvent(nextId, eventType(change.getOperation()), data);
+        replay[(int) (nextId % REPLAY_CAPACITY)] = event;
+        nextId++;
+        for (FeedSubscriber subscriber : subscribers) {
+            deliver(subscriber, event);
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(FeedSubscriber subscriber, Long lastEventId) {
+        if (lastEventId != null) {
+            long oldestId = Math.max(1, nextId - REPLAY_CAPACITY);
+            if (lastEventId < oldestId - 1 || lastEventId >= nextId
+                    || nextId - 1 - lastEventId > subscriber.getCapacity()) {
+                if (!subscriber.offer(new FeedEvent(nextId - 1, RESET, "{}"))) {
+                    return;
+                }
+            } else {
+                for (long id = lastEventId + 1; id < nextId; id++) {
+                    if (!subscriber.offer(replay[(int) (id % REPLAY_CAPACITY)])) {
+                        return;
+                    }
+                }
+            }
+        }
+        subscribers.add(subscriber);
+        logger.info("Car event subscriber added. Params: subscribers = {}", subscribers.size());
+    }
+
+    @Override
+    public void unsubscribe(FeedSubscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            logger.info("Car event subscriber removed. Params: subscribers = {}",
+                    subscribers.size());
+        }
+    }
+
+    private String eventType(ChangeEvent.Operation operation) {
+        switch (operation) {
+            case CREATE:
+                return "car-created";
+            case DELETE:
+                return "car-deleted";
+            default:
+                return "car-updated";
+        }
+    }
+
+    private void deliver(FeedSubscriber subscriber, FeedEvent event) {
+        if (!subscriber.offer(event)) {
+            subscribers.remove(subscriber);
+            logger.warn("Disconnected slow car event subscriber. Params: event id = {}",
+                    event.getId());
+        }
+    }
+}
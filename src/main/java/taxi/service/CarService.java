@@ -1,13 +1,36 @@
 package taxi.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import taxi.dao.Cursor;
+import taxi.lib.ChangeEvent;
+import taxi.model.Assignment;
 import taxi.model.Car;
+import taxi.model.CarView;
 import taxi.model.Driver;
+import taxi.model.LabeledId;
 
 public interface CarService extends GenericService<Car> {
     void addDriverToCar(Driver driver, Car car);
 
     void removeDriverFromCar(Driver driver, Car car);
 
+    List<Assignment> assignDrivers(Set<Long> carIds, Set<Long> driverIds);
+
+    List<Assignment> unassignDrivers(Set<Long> carIds, Set<Long> driverIds);
+
     List<Car> getAllByDriver(Long driverId);
+
+    List<CarView> getAllViews();
+
+    Cursor<CarView> streamAllViews();
+
+    List<CarView> getAllViewsByDriver(Long driverId);
+
+    List<LabeledId> getLabels(String prefix, LabeledId after, int limit);
+
+    void onChange(ChangeEvent event);
+
+    Map<String, Long> getStatistics();
 }
@@ -1,27 +1,59 @@
 package taxi.service;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import taxi.dao.CarDao;
+import taxi.dao.Cursor;
+import taxi.exception.DataProcessingException;
+import taxi.exception.OptimisticLockException;
+import taxi.lib.ChangeEvent;
 import taxi.lib.Inject;
 import taxi.lib.Service;
+import taxi.model.Assignment;
 import taxi.model.Car;
+import taxi.model.CarView;
 import taxi.model.Driver;
+import taxi.model.LabeledId;
 
 @Service
 public class CarServiceImpl implements CarService {
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+    private static final Logger logger = LogManager.getLogger(CarServiceImpl.class);
+    private static final int DRIVER_CARS_CACHE_CAPACITY =
+            Integer.getInteger("taxi.cache.driverCars.capacity", 10000);
+    private final DriverCarsCache driverCarsCache =
+            new DriverCarsCache(DRIVER_CARS_CACHE_CAPACITY);
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder cacheInvalidations = new LongAdder();
     @Inject
     private CarDao carDao;
 
     @Override
     public void addDriverToCar(Driver driver, Car car) {
-        car.getDrivers().add(driver);
-        carDao.update(car);
+        updateWithRetry(car, current -> current.getDrivers().add(driver));
     }
 
     @Override
     public void removeDriverFromCar(Driver driver, Car car) {
-        car.getDrivers().remove(driver);
-        carDao.update(car);
+        updateWithRetry(car, current -> current.getDrivers().remove(driver));
+    }
+
+    @Override
+    public List<Assignment> assignDrivers(Set<Long> carIds, Set<Long> driverIds) {
+        return carDao.assignDrivers(carIds, driverIds);
+    }
+
+    @Override
+    public List<Assignment> unassignDrivers(Set<Long> carIds, Set<Long> driverIds) {
+        return carDao.unassignDrivers(carIds, driverIds);
     }
 
     @Override
@@ -29,6 +61,68 @@ public class CarServiceImpl implements CarService {
         return carDao.getAllByDriver(driverId);
     }
 
+    @Override
+    public List<CarView> getAllViews() {
+        return carDao.getAllViews();
+    }
+
+    @Override
+    public Cursor<CarView> streamAllViews() {
+        return carDao.streamAllViews();
+    }
+
+    @Override
+    public List<CarView> getAllViewsByDriver(Long driverId) {
+        List<CarView> cached = driverCarsCache.get(driverId);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+        long stamp = driverCarsCache.stamp();
+        List<CarView> cars = List.copyOf(carDao.getAllViewsByDriver(driverId));
+        driverCarsCache.put(driverId, stamp, cars);
+        return cars;
+    }
+
+    @Override
+    public List<LabeledId> getLabels(String prefix, LabeledId after, int limit) {
+        return carDao.getLabels(prefix, after, limit);
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        switch (event.getEntity()) {
+            case CAR:
+                cacheInvalidations.add(driverCarsCache.invalidateCar(event.getEntityId(),
+                        event.getRelatedIds()));
+                break;
+            case DRIVER:
+                Long driverId = event.getEntityId();
+                cacheInvalidations.add(driverCarsCache.invalidateDrivers(List.of(driverId)));
+                cacheInvalidations.add(driverCarsCache.invalidateWhere(car ->
+                        Arrays.stream(car.getDrivers())
+                                .anyMatch(driver -> driver.getId() == driverId)));
+                break;
+            case MANUFACTURER:
+                cacheInvalidations.add(driverCarsCache.invalidateWhere(car ->
+                        car.getManufacturerId() == event.getEntityId()));
+                break;
+            default:
+        }
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("hits", cacheHits.sum());
+        statistics.put("misses", cacheMisses.sum());
+        statistics.put("invalidations", cacheInvalidations.sum());
+        statistics.put("evictions", driverCarsCache.getEvictions());
+        statistics.put("size", (long) driverCarsCache.size());
+        return statistics;
+    }
+
     @Override
     public Car create(Car car) {
         return carDao.create(car);
@@ -53,4 +147,28 @@ public class CarServiceImpl implements CarService {
     public boolean delete(Long id) {
         return carDao.delete(id);
     }
+
+    private void updateWithRetry(Car car, Consumer<Car> change) {
+        Car current = car;
+        for (int attempt = 1; ; attempt++) {
+            change.accept(current);
+            try {
+                carDao.update(current);
+                break;
+            } catch (OptimisticLockException e) {
+                if (attempt == MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+                logger.info("Retrying car update after concurrent change. "
+                        + "Params: car id = {}, attempt = {}", car.getId(), attempt);
+                current = carDao.get(car.getId()).orElseThrow(() ->
+                        new DataProcessingException("Car " + car.getId()
+                                + " was deleted while it was being updated"));
+            }
+        }
+        car.setModel(current.getModel());
+        car.setManufacturer(current.getManufacturer());
+        car.setDrivers(current.getDrivers());
+        car.setVersion(current.getVersion());
+    }
 }
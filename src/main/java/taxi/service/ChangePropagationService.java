@@ -0,0 +1,7 @@
+package taxi.service;
+
+public interface ChangePropagationService {
+    void start();
+
+    void stop();
+}
@@ -0,0 +1,146 @@
+package taxi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.dao.ChangeLogDao;
+import taxi.lib.ChangeEvent;
+import taxi.lib.EventBus;
+import taxi.lib.Inject;
+import taxi.lib.Scheduled;
+import taxi.lib.Service;
+
+@Service
+public class ChangePropagationServiceImpl implements ChangePropagationService {
+    private static final Logger logger = LogManager.getLogger(ChangePropagationServiceImpl.class);
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+    private static final int BATCH_SIZE = 500;
+    private static final long PURGE_INTERVAL_MILLIS = 3600000;
+    private static final long PURGE_JITTER_MILLIS = 60000;
+    private static final long RETENTION_MILLIS = TimeUnit.HOURS.toMillis(
+            Long.getLong("taxi.changelog.retentionHours", 24));
+    private static final long GAP_GRACE_MILLIS = TimeUnit.SECONDS.toMillis(
+            Long.getLong("taxi.changelog.gapGraceSeconds", 10));
+    private static final int MAX_TRACKED_GAPS = 10000;
+    private final Queue<ChangeEvent> outgoing = new ConcurrentLinkedQueue<>();
+    private final List<ChangeEvent> unsent = new ArrayList<>();
+    private final NavigableMap<Long, Long> gaps = new TreeMap<>();
+    private final AtomicLong lastSequence = new AtomicLong();
+    private long highestSequence;
+    private final AtomicBoolean started = new AtomicBoolean();
+    @Inject
+    private ChangeLogDao changeLogDao;
+
+    @Override
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        lastSequence.set(changeLogDao.getLastSequence());
+        highestSequence = lastSequence.get();
+        EventBus.getInstance().subscribeAsync(event -> {
+            if (!event.isRemote()) {
+                outgoing.add(event);
+            }
+        });
+        logger.info("Change propagation started. Params: node id = {}, sequence = {}",
+                EventBus.NODE_ID, lastSequence.get());
+    }
+
+    @Override
+    public void stop() {
+        if (started.get()) {
+            propagate();
+        }
+    }
+
+    @Scheduled(fixedDelay = POLL_INTERVAL_MILLIS, initialDelay = POLL_INTERVAL_MILLIS)
+    private synchronized void propagate() {
+        if (!started.get()) {
+            return;
+        }
+        try {
+            publishLocalChanges();
+            applyRemoteChanges();
+        } catch (RuntimeException e) {
+            logger.error("Failed to propagate changes through change log.", e);
+        }
+    }
+
+    @Scheduled(fixedRate = PURGE_INTERVAL_MILLIS, initialDelay = PURGE_INTERVAL_MILLIS,
+            jitter = PURGE_JITTER_MILLIS)
+    private void purgeChangeLog() {
+        changeLogDao.deleteOlderThan(System.currentTimeMillis() - RETENTION_MILLIS);
+    }
+
+    private void publishLocalChanges() {
+        while (true) {
+            ChangeEvent event;
+            while (unsent.size() < BATCH_SIZE && (event = outgoing.poll()) != null) {
+                unsent.add(event);
+            }
+            if (unsent.isEmpty()) {
+                return;
+            }
+            changeLogDao.appendAll(unsent);
+            boolean full = unsent.size() == BATCH_SIZE;
+            unsent.clear();
+            if (!full) {
+                return;
+            }
+        }
+    }
+
+    private void applyRemoteChanges() {
+        long now = System.currentTimeMillis();
+        long after = lastSequence.get();
+        List<ChangeEvent> events;
+        do {
+            events = changeLogDao.getAllAfter(after, BATCH_SIZE);
+            for (ChangeEvent event : events) {
+                long sequence = event.getSequence();
+                after = sequence;
+                if (sequence <= highestSequence) {
+                    if (gaps.remove(sequence) == null) {
+                        continue;
+                    }
+                } else {
+                    trackGaps(highestSequence + 1, sequence, now);
+                    highestSequence = sequence;
+                }
+                if (event.isRemote()) {
+                    EventBus.getInstance().publish(event);
+                }
+            }
+        } while (events.size() == BATCH_SIZE);
+        int expired = 0;
+        while (!gaps.isEmpty() && now - gaps.firstEntry().getValue() > GAP_GRACE_MILLIS) {
+            gaps.pollFirstEntry();
+            expired++;
+        }
+        if (expired > 0) {
+            logger.warn("Gave up waiting for change log entries. Params: entries count = {}",
+                    expired);
+        }
+        lastSequence.set(gaps.isEmpty() ? highestSequence : gaps.firstKey() - 1);
+    }
+
+    private void trackGaps(long from, long to, long now) {
+        if (to - from + gaps.size() > MAX_TRACKED_GAPS) {
+            logger.warn("Too many change log gaps to track. Params: from = {}, to = {}",
+                    from, to);
+            return;
+        }
+        for (long missing = from; missing < to; missing++) {
+            gaps.put(missing, now);
+        }
+    }
+}
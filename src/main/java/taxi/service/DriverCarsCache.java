@@ -0,0 +1,104 @@
+package taxi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import taxi.model.CarView;
+
+class DriverCarsCache {
+    private final Map<Long, List<CarView>> entries;
+    private final Map<Long, Set<Long>> holdersByCar = new HashMap<>();
+    private long generation;
+    private long evictions;
+
+    DriverCarsCache(int capacity) {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<CarView>> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                unindex(eldest.getKey(), eldest.getValue());
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    public synchronized List<CarView> get(Long driverId) {
+        return entries.get(driverId);
+    }
+
+    public synchronized long stamp() {
+        return generation;
+    }
+
+    public synchronized boolean put(Long driverId, long stamp, List<CarView> cars) {
+        if (generation != stamp) {
+            return false;
+        }
+        List<CarView> previous = entries.put(driverId, cars);
+        if (previous != null) {
+            unindex(driverId, previous);
+        }
+        for (CarView car : cars) {
+            holdersByCar.computeIfAbsent(car.getId(), id -> new HashSet<>()).add(driverId);
+        }
+        return true;
+    }
+
+    public synchronized int invalidateDrivers(Collection<Long> driverIds) {
+        generation++;
+        int invalidated = 0;
+        for (Long driverId : driverIds) {
+            List<CarView> cars = entries.remove(driverId);
+            if (cars != null) {
+                unindex(driverId, cars);
+                invalidated++;
+            }
+        }
+        return invalidated;
+    }
+
+    public synchronized int invalidateCar(Long carId, Collection<Long> driverIds) {
+        Set<Long> affected = new HashSet<>(driverIds);
+        affected.addAll(holdersByCar.getOrDefault(carId, Set.of()));
+        return invalidateDrivers(affected);
+    }
+
+    public synchronized int invalidateWhere(Predicate<CarView> stale) {
+        List<Long> affected = new ArrayList<>();
+        for (Map.Entry<Long, List<CarView>> entry : entries.entrySet()) {
+            if (entry.getValue().stream().anyMatch(stale)) {
+                affected.add(entry.getKey());
+            }
+        }
+        return invalidateDrivers(affected);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private void unindex(Long driverId, List<CarView> cars) {
+        for (CarView car : cars) {
+            Set<Long> holders = holdersByCar.get(car.getId());
+            if (holders != null) {
+                holders.remove(driverId);
+                if (holders.isEmpty()) {
+                    holdersByCar.remove(car.getId());
+                }
+            }
+        }
+    }
+}
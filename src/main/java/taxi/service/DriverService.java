@@ -1,7 +1,17 @@
 package taxi.service;
 
+import java.util.List;
+import taxi.dao.Cursor;
 import taxi.model.Driver;
+import taxi.model.DriverView;
+import taxi.model.LabeledId;
 
 public interface DriverService extends GenericService<Driver> {
     Driver getByLogin(String login);
+
+    List<DriverView> getAllViews();
+
+    Cursor<DriverView> streamAllViews();
+
+    List<LabeledId> getLabels(String prefix, LabeledId after, int limit);
 }
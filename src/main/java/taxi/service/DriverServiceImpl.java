@@ -1,10 +1,13 @@
 package taxi.service;
 
 import java.util.List;
+import taxi.dao.Cursor;
 import taxi.dao.DriverDao;
 import taxi.lib.Inject;
 import taxi.lib.Service;
 import taxi.model.Driver;
+import taxi.model.DriverView;
+import taxi.model.LabeledId;
 
 @Service
 public class DriverServiceImpl implements DriverService {
@@ -40,4 +43,19 @@ public class DriverServiceImpl implements DriverService {
     public Driver getByLogin(String login) {
         return driverDao.getByLogin(login).orElse(null);
     }
+
+    @Override
+    public List<DriverView> getAllViews() {
+        return driverDao.getAllViews();
+    }
+
+    @Override
+    public Cursor<DriverView> streamAllViews() {
+        return driverDao.streamAllViews();
+    }
+
+    @Override
+    public List<LabeledId> getLabels(String prefix, LabeledId after, int limit) {
+        return driverDao.getLabels(prefix, after, limit);
+    }
 }
@@ -0,0 +1,9 @@
+package taxi.service;
+
+import taxi.model.FeedEvent;
+
+public interface FeedSubscriber {
+    boolean offer(FeedEvent event);
+
+    int getCapacity();
+}
@@ -0,0 +1,16 @@
+package taxi.service;
+
+import java.util.Map;
+import taxi.model.LocationPing;
+
+public interface LocationIngestionService {
+    Result accept(LocationPing ping);
+
+    Map<String, Long> getStatistics();
+
+    enum Result {
+        ACCEPTED,
+        UNKNOWN_CAR,
+        OVERLOADED
+    }
+}
@@ -0,0 +1,143 @@
+package taxi.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.dao.CarDao;
+import taxi.dao.LocationDao;
+import taxi.lib.Inject;
+import taxi.lib.Scheduled;
+import taxi.lib.Service;
+import taxi.model.LocationPing;
+
+@Service
+public class LocationIngestionServiceImpl implements LocationIngestionService {
+    private static final Logger logger = LogManager.getLogger(LocationIngestionServiceImpl.class);
+    private static final int CAPACITY = 65536;
+    private static final int BATCH_SIZE = 1000;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+    private static final long KNOWN_CARS_REFRESH_MILLIS = 10000;
+    private final Map<Long, LocationPing> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicReference<Set<Long>> knownCarIds = new AtomicReference<>();
+    @Inject
+    private CarDao carDao;
+    @Inject
+    private LocationDao locationDao;
+    @Inject
+    private SurgePricingService surgePricingService;
+    @Inject
+    private ZoneService zoneService;
+
+    @Override
+    public Result accept(LocationPing ping) {
+        if (!isKnownCar(ping.getCarId())) {
+            rejected.increment();
+            return Result.UNKNOWN_CAR;
+        }
+        surgePricingService.recordAvailableCar(ping.getCarId(), ping.getLatitude(),
+                ping.getLongitude());
+        zoneService.recordCar(ping.getCarId(), ping.getLatitude(), ping.getLongitude());
+        if (pending.computeIfPresent(ping.getCarId(), (id, old) -> latest(old, ping)) != null) {
+            coalesced.increment();
+            accepted.increment();
+            return Result.ACCEPTED;
+        }
+        if (pendingCount.incrementAndGet() > CAPACITY) {
+            pendingCount.decrementAndGet();
+            dropped.increment();
+            return Result.OVERLOADED;
+        }
+        if (pending.putIfAbsent(ping.getCarId(), ping) != null) {
+            pendingCount.decrementAndGet();
+            pending.merge(ping.getCarId(), ping, this::latest);
+            coalesced.increment();
+        }
+        accepted.increment();
+        return Result.ACCEPTED;
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("accepted", accepted.sum());
+        statistics.put("coalesced", coalesced.sum());
+        statistics.put("dropped", dropped.sum());
+        statistics.put("rejected", rejected.sum());
+        statistics.put("flushed", flushed.sum());
+        statistics.put("failed", failed.sum());
+        statistics.put("pending", (long) pendingCount.get());
+        return statistics;
+    }
+
+    private LocationPing latest(LocationPing old, LocationPing ping) {
+        return ping.getTimestamp() >= old.getTimestamp() ? ping : old;
+    }
+
+    private boolean isKnownCar(long carId) {
+        Set<Long> ids = knownCarIds.get();
+        if (ids == null) {
+            ids = loadKnownCars();
+        }
+        return ids.contains(carId);
+    }
+
+    private synchronized Set<Long> loadKnownCars() {
+        if (knownCarIds.get() == null) {
+            refreshKnownCars();
+        }
+        return knownCarIds.get();
+    }
+
+    @Scheduled(fixedDelay = KNOWN_CARS_REFRESH_MILLIS, initialDelay = KNOWN_CARS_REFRESH_MILLIS)
+    private void refreshKnownCars() {
+        knownCarIds.set(Collections.unmodifiableSet(new HashSet<>(carDao.getAllIds())));
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS, initialDelay = FLUSH_INTERVAL_MILLIS)
+    private void flush() {
+        List<LocationPing> batch = new ArrayList<>(BATCH_SIZE);
+        for (Long carId : pending.keySet()) {
+            LocationPing ping = pending.remove(carId);
+            if (ping == null) {
+                continue;
+            }
+            pendingCount.decrementAndGet();
+            batch.add(ping);
+            if (batch.size() == BATCH_SIZE) {
+                write(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        write(batch);
+    }
+
+    private void write(List<LocationPing> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushed.add(locationDao.saveAll(batch));
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            logger.error("Failed to flush car locations. Params: pings count = {}",
+                    batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package taxi.service;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PresenceService {
+    void heartbeat(Long driverId);
+
+    void logout(Long driverId);
+
+    boolean isOnline(Long driverId);
+
+    int getOnlineCount();
+
+    List<Long> getOnline(int limit);
+
+    void expireIdle();
+
+    Map<String, Long> getStatistics();
+}
@@ -0,0 +1,120 @@
+package taxi.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.lib.Scheduled;
+import taxi.lib.Service;
+import taxi.util.ConcurrentLongLongMap;
+import taxi.util.TimerWheel;
+
+@Service
+public class PresenceServiceImpl implements PresenceService {
+    private static final Logger logger = LogManager.getLogger(PresenceServiceImpl.class);
+    private static final long TICK_MILLIS = 1000;
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(
+            Long.getLong("taxi.presence.timeoutSeconds", 90));
+    private final ConcurrentLongLongMap lastSeen = new ConcurrentLongLongMap();
+    private final TimerWheel expiries = new TimerWheel(TICK_MILLIS, System.currentTimeMillis());
+    private final AtomicInteger online = new AtomicInteger();
+    private final LongAdder heartbeats = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    @Override
+    public void heartbeat(Long driverId) {
+        long now = System.currentTimeMillis();
+        heartbeats.increment();
+        long previous = lastSeen.put(driverId, now);
+        if (previous == ConcurrentLongLongMap.MISSING) {
+            expiries.schedule(driverId, now + TIMEOUT_MILLIS);
+            online.incrementAndGet();
+        } else if (previous < 0) {
+            online.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void logout(Long driverId) {
+        while (true) {
+            long seen = lastSeen.get(driverId);
+            if (seen == ConcurrentLongLongMap.MISSING || seen < 0) {
+                return;
+            }
+            if (lastSeen.replace(driverId, seen, -seen)) {
+                online.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isOnline(Long driverId) {
+        return lastSeen.get(driverId) > 0;
+    }
+
+    @Override
+    public int getOnlineCount() {
+        return online.get();
+    }
+
+    @Override
+    public List<Long> getOnline(int limit) {
+        List<Long> driverIds = new ArrayList<>(Math.min(limit, online.get()));
+        lastSeen.forEach((driverId, seen) -> {
+            if (seen > 0) {
+                driverIds.add(driverId);
+            }
+            return driverIds.size() < limit;
+        });
+        return driverIds;
+    }
+
+    @Override
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void expireIdle() {
+        long now = System.currentTimeMillis();
+        int before = online.get();
+        expiries.advance(now, driverId -> expire(driverId, now));
+        if (online.get() < before) {
+            logger.info("Expired idle drivers. Params: expired = {}, online = {}",
+                    before - online.get(), online.get());
+        }
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("online", (long) online.get());
+        statistics.put("tracked", (long) expiries.size());
+        statistics.put("heartbeats", heartbeats.sum());
+        statistics.put("expired", expired.sum());
+        return statistics;
+    }
+
+    private void expire(long driverId, long now) {
+        while (true) {
+            long seen = lastSeen.get(driverId);
+            if (seen == ConcurrentLongLongMap.MISSING) {
+                return;
+            }
+            if (seen < 0) {
+                if (lastSeen.remove(driverId, seen)) {
+                    return;
+                }
+            } else if (seen + TIMEOUT_MILLIS > now) {
+                expiries.schedule(driverId, seen + TIMEOUT_MILLIS);
+                return;
+            } else if (lastSeen.remove(driverId, seen)) {
+                online.decrementAndGet();
+                expired.increment();
+                return;
+            }
+        }
+    }
+}
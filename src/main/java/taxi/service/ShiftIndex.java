@@ -0,0 +1,164 @@
+package taxi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import taxi.model.Shift;
+import taxi.util.IntervalTree;
+
+class ShiftIndex {
+    private final Map<Long, Shift> shifts = new HashMap<>();
+    private final Map<Long, Map<Long, Shift>> shiftsByDriver = new HashMap<>();
+    private final Map<Long, Set<Long>> carsByDriver = new HashMap<>();
+    private final Map<Long, Set<Long>> driversByCar = new HashMap<>();
+    private final Map<Long, IntervalTree<Shift>> trees = new HashMap<>();
+
+    public boolean isTracked(Long driverId) {
+        return carsByDriver.containsKey(driverId);
+    }
+
+    public void track(Long driverId, Set<Long> carIds) {
+        carsByDriver.put(driverId, new HashSet<>(carIds));
+        for (Long carId : carIds) {
+            driversByCar.computeIfAbsent(carId, id -> new HashSet<>()).add(driverId);
+        }
+    }
+
+    public void put(Shift shift) {
+        final Shift previous = detach(shift.getId());
+        shifts.put(shift.getId(), shift);
+        shiftsByDriver.computeIfAbsent(shift.getDriverId(), id -> new HashMap<>())
+                .put(shift.getId(), shift);
+        for (Long carId : carsByDriver.getOrDefault(shift.getDriverId(), Set.of())) {
+            trees.computeIfAbsent(carId, id -> new IntervalTree<>())
+                    .insert(shift.getStartTime(), shift.getEndTime(), shift.getId(), shift);
+        }
+        if (previous != null && !previous.getDriverId().equals(shift.getDriverId())) {
+            untrackIfIdle(previous.getDriverId());
+        }
+    }
+
+    public void remove(Long shiftId) {
+        Shift shift = detach(shiftId);
+        if (shift != null) {
+            untrackIfIdle(shift.getDriverId());
+        }
+    }
+
+    public void removeDriver(Long driverId) {
+        Map<Long, Shift> driverShifts = shiftsByDriver.get(driverId);
+        if (driverShifts != null) {
+            new ArrayList<>(driverShifts.keySet()).forEach(this::remove);
+        }
+        untrack(driverId);
+    }
+
+    public void assign(Long carId, Collection<Long> driverIds) {
+        Set<Long> assigned = new HashSet<>();
+        for (Long driverId : driverIds) {
+            if (isTracked(driverId)) {
+                assigned.add(driverId);
+            }
+        }
+        Set<Long> previous = driversByCar.getOrDefault(carId, Set.of());
+        for (Long driverId : previous) {
+            if (!assigned.contains(driverId)) {
+                carsByDriver.get(driverId).remove(carId);
+                shiftsByDriver.getOrDefault(driverId, Map.of()).values()
+                        .forEach(shift -> removeFromTree(carId, shift));
+            }
+        }
+        for (Long driverId : assigned) {
+            if (!previous.contains(driverId)) {
+                carsByDriver.get(driverId).add(carId);
+                IntervalTree<Shift> tree = trees.computeIfAbsent(carId,
+                        id -> new IntervalTree<>());
+                shiftsByDriver.getOrDefault(driverId, Map.of()).values().forEach(shift ->
+                        tree.insert(shift.getStartTime(), shift.getEndTime(), shift.getId(),
+                                shift));
+            }
+        }
+        if (assigned.isEmpty()) {
+            driversByCar.remove(carId);
+        } else {
+            driversByCar.put(carId, assigned);
+        }
+    }
+
+    public List<Shift> findContaining(Long carId, long time) {
+        List<Shift> found = new ArrayList<>();
+        IntervalTree<Shift> tree = trees.get(carId);
+        if (tree != null) {
+            tree.findContaining(time, found::add);
+        }
+        return found;
+    }
+
+    public List<Shift> findOverlapping(Long carId, long from, long to) {
+        List<Shift> found = new ArrayList<>();
+        IntervalTree<Shift> tree = trees.get(carId);
+        if (tree != null) {
+            tree.findOverlapping(from, to, found::add);
+        }
+        return found;
+    }
+
+    public int getShiftCount() {
+        return shifts.size();
+    }
+
+    public int getCarCount() {
+        return trees.size();
+    }
+
+    private Shift detach(Long shiftId) {
+        Shift shift = shifts.remove(shiftId);
+        if (shift == null) {
+            return null;
+        }
+        Map<Long, Shift> driverShifts = shiftsByDriver.get(shift.getDriverId());
+        driverShifts.remove(shiftId);
+        if (driverShifts.isEmpty()) {
+            shiftsByDriver.remove(shift.getDriverId());
+        }
+        for (Long carId : carsByDriver.getOrDefault(shift.getDriverId(), Set.of())) {
+            removeFromTree(carId, shift);
+        }
+        return shift;
+    }
+
+    private void untrackIfIdle(Long driverId) {
+        if (!shiftsByDriver.containsKey(driverId)) {
+            untrack(driverId);
+        }
+    }
+
+    private void untrack(Long driverId) {
+        Set<Long> carIds = carsByDriver.remove(driverId);
+        if (carIds == null) {
+            return;
+        }
+        for (Long carId : carIds) {
+            Set<Long> drivers = driversByCar.get(carId);
+            drivers.remove(driverId);
+            if (drivers.isEmpty()) {
+                driversByCar.remove(carId);
+            }
+        }
+    }
+
+    private void removeFromTree(Long carId, Shift shift) {
+        IntervalTree<Shift> tree = trees.get(carId);
+        if (tree == null) {
+            return;
+        }
+        tree.remove(shift.getStartTime(), shift.getId());
+        if (tree.isEmpty()) {
+            trees.remove(carId);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package taxi.service;
+
+import java.util.List;
+import java.util.Map;
+import taxi.lib.ChangeEvent;
+import taxi.model.Shift;
+
+public interface ShiftService extends GenericService<Shift> {
+    List<Shift> getAllByDriver(Long driverId);
+
+    List<Shift> getOnShiftByCar(Long carId, long time);
+
+    List<Shift> getAllByCar(Long carId, long from, long to);
+
+    void onChange(ChangeEvent event);
+
+    Map<String, Long> getStatistics();
+}
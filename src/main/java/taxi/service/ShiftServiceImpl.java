@@ -0,0 +1,183 @@
+package taxi.service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.dao.ShiftDao;
+import taxi.lib.ChangeEvent;
+import taxi.lib.Inject;
+import taxi.lib.Service;
+import taxi.model.Shift;
+
+@Service
+public class ShiftServiceImpl implements ShiftService {
+    private static final Logger logger = LogManager.getLogger(ShiftServiceImpl.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicReference<ShiftIndex> index = new AtomicReference<>();
+    @Inject
+    private ShiftDao shiftDao;
+
+    @Override
+    public Shift create(Shift shift) {
+        return shiftDao.create(shift);
+    }
+
+    @Override
+    public Shift get(Long id) {
+        return shiftDao.get(id).get();
+    }
+
+    @Override
+    public List<Shift> getAll() {
+        return shiftDao.getAll();
+    }
+
+    @Override
+    public Shift update(Shift shift) {
+        return shiftDao.update(shift);
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        return shiftDao.delete(id);
+    }
+
+    @Override
+    public List<Shift> getAllByDriver(Long driverId) {
+        return shiftDao.getAllByDriver(driverId);
+    }
+
+    @Override
+    public List<Shift> getOnShiftByCar(Long carId, long time) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return index.get().findContaining(carId, time);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Shift> getAllByCar(Long carId, long from, long to) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return index.get().findOverlapping(carId, from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        Shift shift = null;
+        Set<Long> carIds = Set.of();
+        if (event.getEntity() == ChangeEvent.Entity.SHIFT
+                && event.getOperation() != ChangeEvent.Operation.DELETE) {
+            shift = shiftDao.get(event.getEntityId()).orElse(null);
+            if (shift != null) {
+                carIds = shiftDao.getAssignedCarIds(Set.of(shift.getDriverId()))
+                        .getOrDefault(shift.getDriverId(), Set.of());
+            }
+        }
+        // The index is built under the write lock, so an event racing a load waits
+        // here and is applied on top of it instead of being lost.
+        lock.writeLock().lock();
+        try {
+            ShiftIndex current = index.get();
+            if (current != null) {
+                apply(current, event, shift, carIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            ShiftIndex current = index.get();
+            if (current != null) {
+                statistics.put("shifts", (long) current.getShiftCount());
+                statistics.put("cars", (long) current.getCarCount());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return statistics;
+    }
+
+    private void ensureLoaded() {
+        if (index.get() != null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (index.get() == null) {
+                index.set(load());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ShiftIndex load() {
+        logger.info("Attempting to build shift index.");
+        List<Shift> shifts = shiftDao.getAll();
+        Set<Long> driverIds = new HashSet<>();
+        shifts.forEach(shift -> driverIds.add(shift.getDriverId()));
+        Map<Long, Set<Long>> carIds = shiftDao.getAssignedCarIds(driverIds);
+        ShiftIndex loaded = new ShiftIndex();
+        driverIds.forEach(driverId -> loaded.track(driverId,
+                carIds.getOrDefault(driverId, Set.of())));
+        shifts.forEach(loaded::put);
+        logger.info("Successfully built shift index. Params: shifts = {}, cars = {}",
+                loaded.getShiftCount(), loaded.getCarCount());
+        return loaded;
+    }
+
+    private void apply(ShiftIndex shiftIndex, ChangeEvent event, Shift shift,
+                       Set<Long> carIds) {
+        switch (event.getEntity()) {
+            case SHIFT:
+                applyShift(shiftIndex, event, shift, carIds);
+                break;
+            case CAR:
+                if (event.getOperation() == ChangeEvent.Operation.DELETE) {
+                    shiftIndex.assign(event.getEntityId(), List.of());
+                } else {
+                    shiftIndex.assign(event.getEntityId(), event.getRelatedIds());
+                }
+                break;
+            case DRIVER:
+                if (event.getOperation() == ChangeEvent.Operation.DELETE) {
+                    shiftIndex.removeDriver(event.getEntityId());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void applyShift(ShiftIndex shiftIndex, ChangeEvent event, Shift shift,
+                            Set<Long> carIds) {
+        if (shift == null) {
+            shiftIndex.remove(event.getEntityId());
+            return;
+        }
+        if (!shiftIndex.isTracked(shift.getDriverId())) {
+            shiftIndex.track(shift.getDriverId(), carIds);
+        }
+        shiftIndex.put(shift);
+    }
+}
@@ -0,0 +1,9 @@
+package taxi.service;
+
+public interface SurgePricingService {
+    void recordRideRequest(double latitude, double longitude);
+
+    void recordAvailableCar(long carId, double latitude, double longitude);
+
+    double getMultiplier(double latitude, double longitude);
+}
@@ -0,0 +1,96 @@
+package taxi.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import taxi.dao.CarDao;
+import taxi.lib.Inject;
+import taxi.lib.Scheduled;
+import taxi.lib.Service;
+import taxi.util.StripedWindowCounter;
+import taxi.util.ZoneGrid;
+
+@Service
+public class SurgePricingServiceImpl implements SurgePricingService {
+    private static final int BUCKETS = 12;
+    private static final long BUCKET_MILLIS = 5000;
+    private static final long DISPATCHABLE_CARS_REFRESH_MILLIS = 10000;
+    private static final double BASE_MULTIPLIER = 1.0;
+    private static final double MAX_MULTIPLIER = 3.0;
+    private static final double SENSITIVITY = 0.5;
+    private static final double PRECISION = 10.0;
+    private final StripedWindowCounter demand =
+            new StripedWindowCounter(ZoneGrid.getZoneCount(), BUCKETS, BUCKET_MILLIS);
+    private final StripedWindowCounter supply =
+            new StripedWindowCounter(ZoneGrid.getZoneCount(), BUCKETS, BUCKET_MILLIS);
+    private final Map<Long, AtomicLong> lastCountedEpochs = new ConcurrentHashMap<>();
+    private final AtomicReference<Set<Long>> dispatchableCarIds = new AtomicReference<>();
+    @Inject
+    private CarDao carDao;
+
+    @Override
+    public void recordRideRequest(double latitude, double longitude) {
+        int zone = ZoneGrid.zoneOf(latitude, longitude);
+        if (zone != ZoneGrid.NO_ZONE) {
+            demand.increment(zone, System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    public void recordAvailableCar(long carId, double latitude, double longitude) {
+        int zone = ZoneGrid.zoneOf(latitude, longitude);
+        if (zone == ZoneGrid.NO_ZONE || !isDispatchable(carId)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long epoch = supply.currentEpoch(now);
+        AtomicLong lastCounted = lastCountedEpochs.computeIfAbsent(carId,
+                id -> new AtomicLong(Long.MIN_VALUE));
+        long previous = lastCounted.get();
+        if (previous != epoch && lastCounted.compareAndSet(previous, epoch)) {
+            supply.increment(zone, now);
+        }
+    }
+
+    @Override
+    public double getMultiplier(double latitude, double longitude) {
+        int zone = ZoneGrid.zoneOf(latitude, longitude);
+        if (zone == ZoneGrid.NO_ZONE) {
+            return BASE_MULTIPLIER;
+        }
+        long now = System.currentTimeMillis();
+        double requests = demand.sum(zone, now);
+        double cars = Math.max(1.0, (double) supply.sum(zone, now) / BUCKETS);
+        double multiplier = BASE_MULTIPLIER + SENSITIVITY * (requests / cars - 1.0);
+        multiplier = Math.min(MAX_MULTIPLIER, Math.max(BASE_MULTIPLIER, multiplier));
+        return Math.round(multiplier * PRECISION) / PRECISION;
+    }
+
+    private boolean isDispatchable(long carId) {
+        Set<Long> ids = dispatchableCarIds.get();
+        if (ids == null) {
+            ids = loadDispatchableCars();
+        }
+        return ids.contains(carId);
+    }
+
+    private synchronized Set<Long> loadDispatchableCars() {
+        if (dispatchableCarIds.get() == null) {
+            refreshDispatchableCars();
+        }
+        return dispatchableCarIds.get();
+    }
+
+    @Scheduled(fixedDelay = DISPATCHABLE_CARS_REFRESH_MILLIS,
+            initialDelay = DISPATCHABLE_CARS_REFRESH_MILLIS)
+    private void refreshDispatchableCars() {
+        Set<Long> ids = Collections.unmodifiableSet(
+                new HashSet<>(carDao.getAllIdsWithDrivers()));
+        dispatchableCarIds.set(ids);
+        lastCountedEpochs.keySet().retainAll(ids);
+    }
+}
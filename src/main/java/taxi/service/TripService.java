@@ -0,0 +1,12 @@
+package taxi.service;
+
+import java.util.List;
+import taxi.model.Trip;
+
+public interface TripService {
+    void record(Trip trip);
+
+    List<Trip> getAllByDriver(Long driverId, long from, long to);
+
+    List<Trip> getAll(long from, long to);
+}
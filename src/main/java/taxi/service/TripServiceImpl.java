@@ -0,0 +1,55 @@
+package taxi.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import taxi.lib.Service;
+import taxi.model.Trip;
+import taxi.triplog.TripLog;
+
+@Service
+public class TripServiceImpl implements TripService {
+    private static final String DIRECTORY_PROPERTY = "taxi.triplog.dir";
+    private static final String DEFAULT_DIRECTORY = "taxi-trips";
+    private static final long PARTITION_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int SEGMENT_CAPACITY = 131072;
+    private final AtomicReference<TripLog> tripLog = new AtomicReference<>();
+
+    @Override
+    public void record(Trip trip) {
+        getTripLog().append(trip);
+    }
+
+    @Override
+    public List<Trip> getAllByDriver(Long driverId, long from, long to) {
+        List<Trip> trips = new ArrayList<>();
+        getTripLog().scanByDriver(driverId, from, to, view -> trips.add(view.toTrip()));
+        return trips;
+    }
+
+    @Override
+    public List<Trip> getAll(long from, long to) {
+        List<Trip> trips = new ArrayList<>();
+        getTripLog().scan(from, to, view -> trips.add(view.toTrip()));
+        return trips;
+    }
+
+    private TripLog getTripLog() {
+        TripLog current = tripLog.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (tripLog) {
+            if (tripLog.get() == null) {
+                Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY,
+                        Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY)
+                                .toString()));
+                tripLog.set(TripLog.open(directory, PARTITION_MILLIS, SEGMENT_CAPACITY));
+            }
+            return tripLog.get();
+        }
+    }
+}
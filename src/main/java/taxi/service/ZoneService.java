@@ -0,0 +1,21 @@
+package taxi.service;
+
+import java.util.List;
+import java.util.Map;
+import taxi.lib.ChangeEvent;
+
+public interface ZoneService {
+    String getZone(double latitude, double longitude);
+
+    void recordCar(long carId, double latitude, double longitude);
+
+    Map<String, Integer> getCarCounts();
+
+    List<Long> getCarIds(String zone, int limit);
+
+    void expireStale();
+
+    void onChange(ChangeEvent event);
+
+    Map<String, Long> getStatistics();
+}
@@ -0,0 +1,177 @@
+package taxi.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.lib.ChangeEvent;
+import taxi.lib.Scheduled;
+import taxi.lib.Service;
+import taxi.util.ConcurrentLongLongMap;
+import taxi.util.Polygon;
+import taxi.util.ZoneIndex;
+
+@Service
+public class ZoneServiceImpl implements ZoneService {
+    private static final Logger logger = LogManager.getLogger(ZoneServiceImpl.class);
+    private static final String FILE_PROPERTY = "taxi.zones.file";
+    private static final String RESOURCE = "zones.txt";
+    private static final int ZONE_BITS = 16;
+    private static final long ZONE_MASK = (1L << ZONE_BITS) - 1;
+    private static final long SWEEP_INTERVAL_MILLIS = 10000;
+    private static final double CELL_DEGREES =
+            Double.parseDouble(System.getProperty("taxi.zones.cellDegrees", "0.0005"));
+    private static final long STALE_MILLIS = TimeUnit.SECONDS.toMillis(
+            Long.getLong("taxi.zones.staleSeconds", 300));
+    private final ZoneIndex index = new ZoneIndex(loadZones(), CELL_DEGREES);
+    private final ConcurrentLongLongMap carZones = new ConcurrentLongLongMap();
+    private final AtomicIntegerArray carCounts = new AtomicIntegerArray(index.getZoneCount());
+    private final LongAdder classified = new LongAdder();
+    private final LongAdder transitions = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    @Override
+    public String getZone(double latitude, double longitude) {
+        int zone = index.zoneOf(latitude, longitude);
+        return zone == ZoneIndex.NO_ZONE ? null : index.getName(zone);
+    }
+
+    @Override
+    public void recordCar(long carId, double latitude, double longitude) {
+        classified.increment();
+        int zone = index.zoneOf(latitude, longitude);
+        if (zone == ZoneIndex.NO_ZONE) {
+            removeCar(carId);
+            return;
+        }
+        long previous = carZones.put(carId, System.currentTimeMillis() << ZONE_BITS | zone);
+        if (previous == ConcurrentLongLongMap.MISSING) {
+            carCounts.incrementAndGet(zone);
+            transitions.increment();
+        } else if ((int) (previous & ZONE_MASK) != zone) {
+            carCounts.decrementAndGet((int) (previous & ZONE_MASK));
+            carCounts.incrementAndGet(zone);
+            transitions.increment();
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getCarCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int zone = 0; zone < index.getZoneCount(); zone++) {
+            counts.put(index.getName(zone), carCounts.get(zone));
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Long> getCarIds(String zone, int limit) {
+        int wanted = index.getZone(zone);
+        List<Long> carIds = new ArrayList<>();
+        if (wanted == ZoneIndex.NO_ZONE || limit <= 0) {
+            return carIds;
+        }
+        carZones.forEach((carId, value) -> {
+            if ((value & ZONE_MASK) == wanted) {
+                carIds.add(carId);
+            }
+            return carIds.size() < limit;
+        });
+        return carIds;
+    }
+
+    @Override
+    @Scheduled(fixedRate = SWEEP_INTERVAL_MILLIS, initialDelay = SWEEP_INTERVAL_MILLIS)
+    public void expireStale() {
+        long seenBefore = System.currentTimeMillis() - STALE_MILLIS;
+        List<long[]> stale = new ArrayList<>();
+        carZones.forEach((carId, value) -> {
+            if (value >>> ZONE_BITS < seenBefore) {
+                stale.add(new long[] {carId, value});
+            }
+            return true;
+        });
+        for (long[] entry : stale) {
+            if (carZones.remove(entry[0], entry[1])) {
+                carCounts.decrementAndGet((int) (entry[1] & ZONE_MASK));
+                expired.increment();
+            }
+        }
+        if (!stale.isEmpty()) {
+            logger.info("Expired stale car positions. Params: cars count = {}", stale.size());
+        }
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (event.getEntity() == ChangeEvent.Entity.CAR
+                && event.getOperation() == ChangeEvent.Operation.DELETE) {
+            removeCar(event.getEntityId());
+        }
+    }
+
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("zones", (long) index.getZoneCount());
+        statistics.put("cells", (long) index.getCellCount());
+        statistics.put("boundary_cells", (long) index.getBoundaryCellCount());
+        statistics.put("cars", (long) carZones.size());
+        statistics.put("classified", classified.sum());
+        statistics.put("transitions", transitions.sum());
+        statistics.put("expired", expired.sum());
+        return statistics;
+    }
+
+    private void removeCar(long carId) {
+        while (true) {
+            long value = carZones.get(carId);
+            if (value == ConcurrentLongLongMap.MISSING) {
+                return;
+            }
+            if (carZones.remove(carId, value)) {
+                carCounts.decrementAndGet((int) (value & ZONE_MASK));
+                transitions.increment();
+                return;
+            }
+        }
+    }
+
+    private static Map<String, Polygon> loadZones() {
+        String file = System.getProperty(FILE_PROPERTY);
+        String source = file == null ? RESOURCE : file;
+        logger.info("Attempting to load zones. Params: source = {}", source);
+        List<String> lines;
+        try (InputStream input = file == null
+                ? ZoneServiceImpl.class.getClassLoader().getResourceAsStream(RESOURCE)
+                : Files.newInputStream(Paths.get(file))) {
+            if (input == null) {
+                throw new IOException("Resource " + RESOURCE + " is missing");
+            }
+            lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))
+                    .lines().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Can't read zones from " + source, e);
+        }
+        Map<String, Polygon> zones = ZoneIndex.parse(lines, source);
+        if (zones.size() > ZONE_MASK) {
+            throw new RuntimeException("Too many zones in " + source + ", at most "
+                    + ZONE_MASK + " are supported");
+        }
+        logger.info("Successfully loaded zones. Params: zones count = {}", zones.size());
+        return zones;
+    }
+}
@@ -0,0 +1,158 @@
+package taxi.triplog;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import taxi.exception.DataProcessingException;
+import taxi.model.Trip;
+
+public class TripLog {
+    private static final Logger logger = LogManager.getLogger(TripLog.class);
+    private static final String PREFIX = "trips-";
+    private static final String SUFFIX = ".seg";
+    private static final String SEPARATOR = "-";
+    private static final int FORCE_INTERVAL = 256;
+    private final Path directory;
+    private final long partitionMillis;
+    private final int segmentCapacity;
+    private final NavigableMap<Long, List<TripSegment>> partitions =
+            new ConcurrentSkipListMap<>();
+    private final Object forceLock = new Object();
+    private Set<TripSegment> unforced = new HashSet<>();
+    private int unforcedAppends;
+
+    private TripLog(Path directory, long partitionMillis, int segmentCapacity) {
+        this.directory = directory;
+        this.partitionMillis = partitionMillis;
+        this.segmentCapacity = segmentCapacity;
+    }
+
+    public static TripLog open(Path directory, long partitionMillis, int segmentCapacity) {
+        logger.info("Attempting to open trip log. Params: directory = {}", directory);
+        TripLog tripLog = new TripLog(directory, partitionMillis, segmentCapacity);
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files =
+                         Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+                for (Path file : files) {
+                    tripLog.load(file);
+                }
+            }
+            tripLog.verifyLoaded();
+        } catch (IOException e) {
+            logger.error("Failed to open trip log. Params: directory = {}", directory);
+            throw new DataProcessingException("Can't open trip log in " + directory, e);
+        }
+        logger.info("Successfully opened trip log. Params: directory = {}, partitions = {}",
+                directory, tripLog.partitions.size());
+        return tripLog;
+    }
+
+    public void append(Trip trip) {
+        boolean forceDue;
+        synchronized (this) {
+            long partition = Math.floorDiv(trip.getEndTime(), partitionMillis);
+            List<TripSegment> segments =
+                    partitions.computeIfAbsent(partition, key -> new CopyOnWriteArrayList<>());
+            TripSegment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (segment == null || segment.isFull()) {
+                segment = openSegment(partition, segments.size());
+                segments.add(segment);
+            }
+            segment.append(trip);
+            unforced.add(segment);
+            forceDue = ++unforcedAppends >= FORCE_INTERVAL;
+            if (forceDue) {
+                unforcedAppends = 0;
+            }
+        }
+        if (forceDue) {
+            force();
+        }
+    }
+
+    public void scan(long from, long to, Consumer<TripRecordView> visitor) {
+        TripRecordView view = new TripRecordView();
+        for (List<TripSegment> segments : partitionsBetween(from, to)) {
+            for (TripSegment segment : segments) {
+                segment.scan(from, to, view, visitor);
+            }
+        }
+    }
+
+    public void scanByDriver(long driverId, long from, long to,
+                             Consumer<TripRecordView> visitor) {
+        TripRecordView view = new TripRecordView();
+        for (List<TripSegment> segments : partitionsBetween(from, to)) {
+            for (TripSegment segment : segments) {
+                segment.scanByDriver(driverId, from, to, view, visitor);
+            }
+        }
+    }
+
+    public void force() {
+        synchronized (forceLock) {
+            Set<TripSegment> segments;
+            synchronized (this) {
+                segments = unforced;
+                unforced = new HashSet<>();
+            }
+            segments.forEach(TripSegment::force);
+        }
+    }
+
+    private Iterable<List<TripSegment>> partitionsBetween(long from, long to) {
+        if (from >= to) {
+            return List.of();
+        }
+        return partitions.subMap(Math.floorDiv(from, partitionMillis), true,
+                Math.floorDiv(to - 1, partitionMillis), true).values();
+    }
+
+    private TripSegment openSegment(long partition, int sequence) {
+        Path file = directory.resolve(PREFIX + partition + SEPARATOR + sequence + SUFFIX);
+        try {
+            return TripSegment.open(file, segmentCapacity);
+        } catch (IOException e) {
+            logger.error("Failed to open trip log segment. Params: file = {}", file);
+            throw new DataProcessingException("Can't open trip log segment " + file, e);
+        }
+    }
+
+    private void load(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        String[] parts = name.substring(PREFIX.length(), name.length() - SUFFIX.length())
+                .split(SEPARATOR);
+        long partition = Long.parseLong(parts[0]);
+        int sequence = Integer.parseInt(parts[1]);
+        List<TripSegment> segments =
+                partitions.computeIfAbsent(partition, key -> new CopyOnWriteArrayList<>());
+        while (segments.size() <= sequence) {
+            segments.add(null);
+        }
+        TripSegment segment = TripSegment.open(file, segmentCapacity);
+        segments.set(sequence, segment);
+        logger.info("Recovered trip log segment. Params: file = {}, records = {}",
+                file, segment.getCount());
+    }
+
+    private void verifyLoaded() {
+        for (Map.Entry<Long, List<TripSegment>> entry : partitions.entrySet()) {
+            if (entry.getValue().contains(null)) {
+                throw new DataProcessingException("Trip log partition " + entry.getKey()
+                        + " in " + directory + " has missing segments", null);
+            }
+        }
+    }
+}
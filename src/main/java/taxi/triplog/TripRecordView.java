@@ -0,0 +1,113 @@
+package taxi.triplog;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import taxi.model.Trip;
+
+public final class TripRecordView {
+    static final int SIZE = 80;
+    private static final int MAGIC = 0x54524950;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CRC_OFFSET = 4;
+    private static final int BODY_OFFSET = 8;
+    private static final int CAR_ID_OFFSET = 8;
+    private static final int DRIVER_ID_OFFSET = 16;
+    private static final int START_TIME_OFFSET = 24;
+    private static final int END_TIME_OFFSET = 32;
+    private static final int START_LATITUDE_OFFSET = 40;
+    private static final int START_LONGITUDE_OFFSET = 48;
+    private static final int END_LATITUDE_OFFSET = 56;
+    private static final int END_LONGITUDE_OFFSET = 64;
+    private static final int FARE_OFFSET = 72;
+    private ByteBuffer buffer;
+    private int offset;
+
+    TripRecordView() {
+    }
+
+    void moveTo(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    public long getCarId() {
+        return buffer.getLong(offset + CAR_ID_OFFSET);
+    }
+
+    public long getDriverId() {
+        return buffer.getLong(offset + DRIVER_ID_OFFSET);
+    }
+
+    public long getStartTime() {
+        return buffer.getLong(offset + START_TIME_OFFSET);
+    }
+
+    public long getEndTime() {
+        return buffer.getLong(offset + END_TIME_OFFSET);
+    }
+
+    public double getStartLatitude() {
+        return buffer.getDouble(offset + START_LATITUDE_OFFSET);
+    }
+
+    public double getStartLongitude() {
+        return buffer.getDouble(offset + START_LONGITUDE_OFFSET);
+    }
+
+    public double getEndLatitude() {
+        return buffer.getDouble(offset + END_LATITUDE_OFFSET);
+    }
+
+    public double getEndLongitude() {
+        return buffer.getDouble(offset + END_LONGITUDE_OFFSET);
+    }
+
+    public long getFareCents() {
+        return buffer.getLong(offset + FARE_OFFSET);
+    }
+
+    public Trip toTrip() {
+        return new Trip(getCarId(), getDriverId(), getStartTime(), getEndTime(),
+                getStartLatitude(), getStartLongitude(), getEndLatitude(), getEndLongitude(),
+                getFareCents());
+    }
+
+    static void write(ByteBuffer buffer, int offset, Trip trip) {
+        buffer.putLong(offset + CAR_ID_OFFSET, trip.getCarId());
+        buffer.putLong(offset + DRIVER_ID_OFFSET, trip.getDriverId());
+        buffer.putLong(offset + START_TIME_OFFSET, trip.getStartTime());
+        buffer.putLong(offset + END_TIME_OFFSET, trip.getEndTime());
+        buffer.putDouble(offset + START_LATITUDE_OFFSET, trip.getStartLatitude());
+        buffer.putDouble(offset + START_LONGITUDE_OFFSET, trip.getStartLongitude());
+        buffer.putDouble(offset + END_LATITUDE_OFFSET, trip.getEndLatitude());
+        buffer.putDouble(offset + END_LONGITUDE_OFFSET, trip.getEndLongitude());
+        buffer.putLong(offset + FARE_OFFSET, trip.getFareCents());
+        buffer.putInt(offset + CRC_OFFSET, checksum(buffer, offset));
+        buffer.putInt(offset + MAGIC_OFFSET, MAGIC);
+    }
+
+    static boolean isValid(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + MAGIC_OFFSET) == MAGIC
+                && buffer.getInt(offset + CRC_OFFSET) == checksum(buffer, offset);
+    }
+
+    static void invalidate(ByteBuffer buffer, int offset) {
+        buffer.putInt(offset + MAGIC_OFFSET, 0);
+    }
+
+    static long readEndTime(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + END_TIME_OFFSET);
+    }
+
+    static long readDriverId(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + DRIVER_ID_OFFSET);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        ByteBuffer body = buffer.duplicate();
+        body.limit(offset + SIZE).position(offset + BODY_OFFSET);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+}
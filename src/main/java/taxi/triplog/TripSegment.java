@@ -0,0 +1,140 @@
+package taxi.triplog;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import taxi.model.Trip;
+
+final class TripSegment {
+    private static final int BLOCK_SIZE = 64;
+    private final Path path;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private final long[] blockMinEndTime;
+    private final long[] blockMaxEndTime;
+    private final Map<Long, SlotList> driverSlots = new ConcurrentHashMap<>();
+    private volatile int count;
+
+    private TripSegment(Path path, int capacity, MappedByteBuffer buffer) {
+        this.path = path;
+        this.capacity = capacity;
+        this.buffer = buffer;
+        int blocks = (capacity + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        blockMinEndTime = new long[blocks];
+        blockMaxEndTime = new long[blocks];
+        Arrays.fill(blockMinEndTime, Long.MAX_VALUE);
+        Arrays.fill(blockMaxEndTime, Long.MIN_VALUE);
+    }
+
+    static TripSegment open(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) capacity * TripRecordView.SIZE);
+            TripSegment segment = new TripSegment(path, capacity, buffer);
+            segment.recover();
+            return segment;
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count == capacity;
+    }
+
+    void append(Trip trip) {
+        int slot = count;
+        TripRecordView.write(buffer, slot * TripRecordView.SIZE, trip);
+        index(slot, trip.getDriverId(), trip.getEndTime());
+        count = slot + 1;
+    }
+
+    void scan(long from, long to, TripRecordView view, Consumer<TripRecordView> visitor) {
+        int size = count;
+        for (int block = 0; block * BLOCK_SIZE < size; block++) {
+            if (blockMaxEndTime[block] < from || blockMinEndTime[block] >= to) {
+                continue;
+            }
+            int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+            for (int slot = block * BLOCK_SIZE; slot < end; slot++) {
+                visit(slot, from, to, view, visitor);
+            }
+        }
+    }
+
+    void scanByDriver(long driverId, long from, long to, TripRecordView view,
+                      Consumer<TripRecordView> visitor) {
+        SlotList slots = driverSlots.get(driverId);
+        if (slots == null) {
+            return;
+        }
+        int size = slots.size;
+        int[] values = slots.values;
+        for (int i = 0; i < size; i++) {
+            visit(values[i], from, to, view, visitor);
+        }
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private void visit(int slot, long from, long to, TripRecordView view,
+                       Consumer<TripRecordView> visitor) {
+        int offset = slot * TripRecordView.SIZE;
+        long endTime = TripRecordView.readEndTime(buffer, offset);
+        if (endTime >= from && endTime < to) {
+            view.moveTo(buffer, offset);
+            visitor.accept(view);
+        }
+    }
+
+    private void recover() {
+        int slot = 0;
+        while (slot < capacity && TripRecordView.isValid(buffer, slot * TripRecordView.SIZE)) {
+            int offset = slot * TripRecordView.SIZE;
+            index(slot, TripRecordView.readDriverId(buffer, offset),
+                    TripRecordView.readEndTime(buffer, offset));
+            slot++;
+        }
+        if (slot < capacity) {
+            TripRecordView.invalidate(buffer, slot * TripRecordView.SIZE);
+        }
+        count = slot;
+    }
+
+    private void index(int slot, long driverId, long endTime) {
+        int block = slot / BLOCK_SIZE;
+        blockMinEndTime[block] = Math.min(blockMinEndTime[block], endTime);
+        blockMaxEndTime[block] = Math.max(blockMaxEndTime[block], endTime);
+        driverSlots.computeIfAbsent(driverId, id -> new SlotList()).add(slot);
+    }
+
+    private static final class SlotList {
+        private volatile int[] values = new int[8];
+        private volatile int size;
+
+        private void add(int slot) {
+            int[] current = values;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+                values = current;
+            }
+            current[size] = slot;
+            size = size + 1;
+        }
+    }
+}
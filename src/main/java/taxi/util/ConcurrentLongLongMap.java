@@ -0,0 +1,167 @@
+package taxi.util;
+
+public class ConcurrentLongLongMap {
+    public static final long MISSING = Long.MIN_VALUE;
+    private static final long EMPTY_KEY = 0;
+    private static final int MIN_CAPACITY = 16;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public ConcurrentLongLongMap() {
+        int count = Integer.highestOneBit(
+                Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        stripeMask = count - 1;
+    }
+
+    public long get(long key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            int slot = stripe.find(key);
+            return slot < 0 ? MISSING : stripe.values[slot];
+        }
+    }
+
+    public long put(long key, long value) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            int slot = stripe.find(key);
+            if (slot >= 0) {
+                long previous = stripe.values[slot];
+                stripe.values[slot] = value;
+                return previous;
+            }
+            stripe.insert(key, value);
+            return MISSING;
+        }
+    }
+
+    public boolean replace(long key, long expected, long value) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            int slot = stripe.find(key);
+            if (slot < 0 || stripe.values[slot] != expected) {
+                return false;
+            }
+            stripe.values[slot] = value;
+            return true;
+        }
+    }
+
+    public boolean remove(long key, long expected) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            int slot = stripe.find(key);
+            if (slot < 0 || stripe.values[slot] != expected) {
+                return false;
+            }
+            stripe.delete(slot);
+            return true;
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    public void forEach(EntryVisitor visitor) {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (int slot = 0; slot < stripe.keys.length; slot++) {
+                    if (stripe.keys[slot] != EMPTY_KEY
+                            && !visitor.visit(stripe.keys[slot], stripe.values[slot])) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private Stripe stripeOf(long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Key " + EMPTY_KEY + " is reserved");
+        }
+        return stripes[(int) (mix(key) >>> 32) & stripeMask];
+    }
+
+    private static long mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    public interface EntryVisitor {
+        boolean visit(long key, long value);
+    }
+
+    private static class Stripe {
+        private long[] keys = new long[MIN_CAPACITY];
+        private long[] values = new long[MIN_CAPACITY];
+        private int size;
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            for (int slot = (int) mix(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                if (keys[slot] == EMPTY_KEY) {
+                    return -1;
+                }
+            }
+        }
+
+        private void insert(long key, long value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != EMPTY_KEY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        private void delete(int slot) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; keys[next] != EMPTY_KEY; next = (next + 1) & mask) {
+                int home = (int) mix(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY_KEY;
+            size--;
+            if (keys.length > MIN_CAPACITY && size * 8 < keys.length) {
+                resize(keys.length / 2);
+            }
+        }
+
+        private void resize(int capacity) {
+            final long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[capacity];
+            values = new long[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY_KEY) {
+                    insert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
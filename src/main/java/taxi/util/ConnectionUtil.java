@@ -1,15 +1,29 @@
 package taxi.util;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ConnectionUtil {
-    private static final String URL = "DATABASE_URL";
-    private static final String USERNAME = "USERNAME";
-    private static final String PASSWORD = "PASSWORD";
-    private static final String JDBC_DRIVER = "DRIVER_CLASS_NAME";
+    private static final String URL = System.getProperty("taxi.db.url", "DATABASE_URL");
+    private static final String USERNAME = System.getProperty("taxi.db.user", "USERNAME");
+    private static final String PASSWORD = System.getProperty("taxi.db.password", "PASSWORD");
+    private static final String JDBC_DRIVER =
+            System.getProperty("taxi.db.driver", "DRIVER_CLASS_NAME");
+
+    private static final List<StatementListener> listeners = new CopyOnWriteArrayList<>();
 
     static {
         try {
@@ -23,10 +37,122 @@ public class ConnectionUtil {
         Properties dbProperties = new Properties();
         dbProperties.setProperty("user", USERNAME);
         dbProperties.setProperty("password", PASSWORD);
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.onConnection();
+        }
         try {
-            return DriverManager.getConnection(URL, dbProperties);
+            Connection connection = DriverManager.getConnection(URL, dbProperties);
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, new TimeoutHandler(connection));
         } catch (SQLException e) {
             throw new RuntimeException("Can't create connection to DB ", e);
         }
     }
+
+    public static void addStatementListener(StatementListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeStatementListener(StatementListener listener) {
+        listeners.remove(listener);
+    }
+
+    public interface StatementListener {
+        void onExecute(String operation, String sql, Map<Integer, Object> parameters);
+    }
+
+    private static class TimeoutHandler implements InvocationHandler {
+        private final Connection connection;
+
+        private TimeoutHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement) {
+                ((Statement) result).setQueryTimeout(QueryTimeouts.currentTimeoutSeconds());
+            }
+            if (result instanceof PreparedStatement
+                    && (!listeners.isEmpty() || QueryStats.current() != null)) {
+                return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                        new Class<?>[] {PreparedStatement.class},
+                        new CaptureHandler((PreparedStatement) result, (String) args[0]));
+            }
+            return result;
+        }
+    }
+
+    private static class CaptureHandler implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final String sql;
+        private final String operation = QueryTimeouts.currentOperation();
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        private CaptureHandler(PreparedStatement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            QueryStats stats = QueryStats.current();
+            if (name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer && !listeners.isEmpty()) {
+                parameters.put((Integer) args[0], "setNull".equals(name) ? null : args[1]);
+            } else if (name.startsWith("execute")) {
+                if (stats != null) {
+                    stats.onStatement(sql);
+                }
+                if (!listeners.isEmpty()) {
+                    Map<Integer, Object> snapshot = new TreeMap<>(parameters);
+                    listeners.forEach(listener -> listener.onExecute(operation, sql, snapshot));
+                }
+            }
+            Object result;
+            try {
+                result = method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (stats != null && "executeQuery".equals(name)) {
+                return Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        new RowCountHandler((ResultSet) result, stats));
+            }
+            return result;
+        }
+    }
+
+    private static class RowCountHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final QueryStats stats;
+
+        private RowCountHandler(ResultSet resultSet, QueryStats stats) {
+            this.resultSet = resultSet;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(resultSet, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                stats.onRow();
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,152 @@
+package taxi.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+public class IntervalTree<T> {
+    private Node<T> root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void insert(long start, long end, long key, T value) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval [" + start + ", " + end + ") is empty");
+        }
+        root = insertNode(root, new Node<>(start, end, key, value));
+        size++;
+    }
+
+    public boolean remove(long start, long key) {
+        int before = size;
+        root = removeNode(root, start, key);
+        return size < before;
+    }
+
+    public void findContaining(long point, Consumer<T> visitor) {
+        findOverlapping(point, point + 1, visitor);
+    }
+
+    public void findOverlapping(long from, long to, Consumer<T> visitor) {
+        visitOverlapping(root, from, to, visitor);
+    }
+
+    private Node<T> insertNode(Node<T> node, Node<T> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.key, node) < 0) {
+            node.left = insertNode(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insertNode(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        return node.update();
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node.update();
+        return left.update();
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node.update();
+        return right.update();
+    }
+
+    private Node<T> removeNode(Node<T> node, long start, long key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, key, node);
+        if (comparison == 0) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = removeNode(node.left, start, key);
+        } else {
+            node.right = removeNode(node.right, start, key);
+        }
+        return node.update();
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private void visitOverlapping(Node<T> node, long from, long to, Consumer<T> visitor) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        visitOverlapping(node.left, from, to, visitor);
+        if (node.start >= to) {
+            return;
+        }
+        if (node.end > from) {
+            visitor.accept(node.value);
+        }
+        visitOverlapping(node.right, from, to, visitor);
+    }
+
+    private static int compare(long start, long key, Node<?> node) {
+        int comparison = Long.compare(start, node.start);
+        return comparison != 0 ? comparison : Long.compare(key, node.key);
+    }
+
+    private static class Node<T> {
+        private final long start;
+        private final long end;
+        private final long key;
+        private final T value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, long key, T value) {
+            this.start = start;
+            this.end = end;
+            this.key = key;
+            this.value = value;
+            this.maxEnd = end;
+        }
+
+        private Node<T> update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd > maxEnd) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > maxEnd) {
+                maxEnd = right.maxEnd;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package taxi.util;
+
+public class Polygon {
+    private static final double EDGE_TOLERANCE = 1e-9;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    public Polygon(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length || latitudes.length < 3) {
+            throw new IllegalArgumentException("A polygon needs at least 3 vertices, got "
+                    + Math.min(latitudes.length, longitudes.length));
+        }
+        this.latitudes = latitudes.clone();
+        this.longitudes = longitudes.clone();
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < latitudes.length; i++) {
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+            minLon = Math.min(minLon, longitudes[i]);
+            maxLon = Math.max(maxLon, longitudes[i]);
+        }
+        minLatitude = minLat;
+        maxLatitude = maxLat;
+        minLongitude = minLon;
+        maxLongitude = maxLon;
+    }
+
+    public static Polygon parse(String vertices) {
+        String[] points = vertices.split(",");
+        double[] latitudes = new double[points.length];
+        double[] longitudes = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            String[] coordinates = points[i].trim().split("\\s+");
+            if (coordinates.length != 2) {
+                throw new IllegalArgumentException("Expected \"latitude longitude\", got \""
+                        + points[i].trim() + '"');
+            }
+            latitudes[i] = Double.parseDouble(coordinates[0]);
+            longitudes[i] = Double.parseDouble(coordinates[1]);
+        }
+        return new Polygon(latitudes, longitudes);
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public double getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public double getMinLongitude() {
+        return minLongitude;
+    }
+
+    public double getMaxLongitude() {
+        return maxLongitude;
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        if (latitude < minLatitude || latitude > maxLatitude
+                || longitude < minLongitude || longitude > maxLongitude) {
+            return false;
+        }
+        boolean inside = false;
+        for (int i = 0, j = latitudes.length - 1; i < latitudes.length; j = i++) {
+            if ((latitudes[i] > latitude) != (latitudes[j] > latitude)
+                    && longitude < (longitudes[j] - longitudes[i]) * (latitude - latitudes[i])
+                    / (latitudes[j] - latitudes[i]) + longitudes[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    public Coverage cover(double fromLatitude, double fromLongitude,
+                          double toLatitude, double toLongitude) {
+        double minLat = fromLatitude - EDGE_TOLERANCE;
+        double maxLat = toLatitude + EDGE_TOLERANCE;
+        double minLon = fromLongitude - EDGE_TOLERANCE;
+        double maxLon = toLongitude + EDGE_TOLERANCE;
+        if (maxLat < minLatitude || minLat > maxLatitude
+                || maxLon < minLongitude || minLon > maxLongitude) {
+            return Coverage.OUTSIDE;
+        }
+        for (int i = 0, j = latitudes.length - 1; i < latitudes.length; j = i++) {
+            if (crosses(latitudes[j], longitudes[j], latitudes[i], longitudes[i],
+                    minLat, minLon, maxLat, maxLon)) {
+                return Coverage.PARTIAL;
+            }
+        }
+        return contains((fromLatitude + toLatitude) / 2, (fromLongitude + toLongitude) / 2)
+                ? Coverage.INSIDE : Coverage.OUTSIDE;
+    }
+
+    private static boolean crosses(double fromLat, double fromLon, double toLat, double toLon,
+                                   double minLat, double minLon, double maxLat, double maxLon) {
+        double[] range = {0, 1};
+        double deltaLat = toLat - fromLat;
+        double deltaLon = toLon - fromLon;
+        return clip(-deltaLon, fromLon - minLon, range)
+                && clip(deltaLon, maxLon - fromLon, range)
+                && clip(-deltaLat, fromLat - minLat, range)
+                && clip(deltaLat, maxLat - fromLat, range);
+    }
+
+    private static boolean clip(double direction, double distance, double[] range) {
+        if (direction == 0) {
+            return distance >= 0;
+        }
+        double ratio = distance / direction;
+        if (direction < 0) {
+            if (ratio > range[1]) {
+                return false;
+            }
+            range[0] = Math.max(range[0], ratio);
+        } else {
+            if (ratio < range[0]) {
+                return false;
+            }
+            range[1] = Math.min(range[1], ratio);
+        }
+        return true;
+    }
+
+    public enum Coverage {
+        INSIDE,
+        OUTSIDE,
+        PARTIAL
+    }
+}
@@ -0,0 +1,168 @@
+package taxi.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import taxi.exception.QueryBudgetExceededException;
+
+public class QueryStats {
+    private static final ThreadLocal<QueryStats> current = new ThreadLocal<>();
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern ROW_LIST =
+            Pattern.compile("(\\(\\?(?:\\.\\.\\.)?\\))(\\s*,\\s*\\(\\?(?:\\.\\.\\.)?\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_CACHED_SHAPES = 10000;
+    private static final int SHAPE_PREVIEW_LENGTH = 120;
+    private static final int REPORTED_SHAPES = 3;
+    private static final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final String endpoint;
+    private final Limits limits;
+    private final boolean strict;
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int connections;
+    private int statements;
+    private long rows;
+    private int maxRepeats;
+    private boolean rejected;
+
+    public QueryStats(String endpoint, Limits limits, boolean strict) {
+        this.endpoint = endpoint;
+        this.limits = limits;
+        this.strict = strict;
+    }
+
+    public static void open(QueryStats stats) {
+        current.set(stats);
+    }
+
+    public static void close() {
+        current.remove();
+    }
+
+    public static QueryStats current() {
+        return current.get();
+    }
+
+    public static String shapeOf(String sql) {
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+            shape = PLACEHOLDER_LIST.matcher(shape).replaceAll("?...");
+            shape = ROW_LIST.matcher(shape).replaceAll("$1, ...");
+            if (shapes.size() < MAX_CACHED_SHAPES) {
+                shapes.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    public void onConnection() {
+        connections++;
+        check("connections", connections, limits.getConnections());
+    }
+
+    public void onStatement(String sql) {
+        statements++;
+        int repeats = executions.merge(shapeOf(sql), 1, Integer::sum);
+        maxRepeats = Math.max(maxRepeats, repeats);
+        check("statements", statements, limits.getStatements());
+        check("repeats", repeats, limits.getRepeats());
+    }
+
+    public void onRow() {
+        rows++;
+        check("rows", rows, limits.getRows());
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public boolean isRejected() {
+        return rejected;
+    }
+
+    public boolean isOverBudget() {
+        return connections > limits.getConnections() || statements > limits.getStatements()
+                || rows > limits.getRows() || maxRepeats > limits.getRepeats();
+    }
+
+    public String getSummary() {
+        List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : executions.entrySet()) {
+            if (entry.getValue() > 1) {
+                repeated.add(entry);
+            }
+        }
+        repeated.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        StringBuilder summary = new StringBuilder()
+                .append("statements = ").append(statements).append('/')
+                .append(limits.getStatements())
+                .append(", connections = ").append(connections).append('/')
+                .append(limits.getConnections())
+                .append(", rows = ").append(rows).append('/').append(limits.getRows())
+                .append(", repeats = ").append(maxRepeats).append('/')
+                .append(limits.getRepeats());
+        for (int i = 0; i < Math.min(REPORTED_SHAPES, repeated.size()); i++) {
+            String shape = repeated.get(i).getKey();
+            summary.append(i == 0 ? ", repeated = [" : "; ")
+                    .append(repeated.get(i).getValue()).append(" x ")
+                    .append(shape.length() > SHAPE_PREVIEW_LENGTH
+                            ? shape.substring(0, SHAPE_PREVIEW_LENGTH) + "..." : shape);
+        }
+        return repeated.isEmpty() ? summary.toString() : summary.append(']').toString();
+    }
+
+    private void check(String counter, long value, long limit) {
+        if (strict && value > limit) {
+            rejected = true;
+            throw new QueryBudgetExceededException("Query budget of " + endpoint
+                    + " exceeded: " + counter + " " + value + " > " + limit);
+        }
+    }
+
+    public static class Limits {
+        private final int statements;
+        private final int connections;
+        private final long rows;
+        private final int repeats;
+
+        public Limits(int statements, int connections, long rows, int repeats) {
+            this.statements = statements;
+            this.connections = connections;
+            this.rows = rows;
+            this.repeats = repeats;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public int getRepeats() {
+            return repeats;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package taxi.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class QueryTimeouts {
+    private static final String PROPERTY_PREFIX = "taxi.query.timeout.";
+    private static final String DEFAULT_KEY = "default";
+    private static final int DEFAULT_TIMEOUT_SECONDS = 5;
+    private static final ThreadLocal<String> currentOperation = new ThreadLocal<>();
+    private static final Map<String, Integer> timeouts = new ConcurrentHashMap<>();
+
+    public static String enter(String operation) {
+        String previous = currentOperation.get();
+        currentOperation.set(operation);
+        return previous;
+    }
+
+    public static void exit(String previous) {
+        if (previous == null) {
+            currentOperation.remove();
+        } else {
+            currentOperation.set(previous);
+        }
+    }
+
+    public static String currentOperation() {
+        return currentOperation.get();
+    }
+
+    public static int currentTimeoutSeconds() {
+        String operation = currentOperation.get();
+        return timeouts.computeIfAbsent(operation == null ? DEFAULT_KEY : operation,
+                QueryTimeouts::resolve);
+    }
+
+    private static int resolve(String operation) {
+        String value = System.getProperty(PROPERTY_PREFIX + operation,
+                System.getProperty(PROPERTY_PREFIX + DEFAULT_KEY));
+        return value == null ? DEFAULT_TIMEOUT_SECONDS : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,72 @@
+package taxi.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class StripedWindowCounter {
+    private final int keys;
+    private final int buckets;
+    private final long bucketMillis;
+    private final int stripeMask;
+    private final AtomicReferenceArray<Bucket> slots;
+
+    public StripedWindowCounter(int keys, int buckets, long bucketMillis) {
+        this.keys = keys;
+        this.buckets = buckets;
+        this.bucketMillis = bucketMillis;
+        int stripes = Integer.highestOneBit(
+                Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.stripeMask = stripes - 1;
+        this.slots = new AtomicReferenceArray<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            slots.set(i, new Bucket(Long.MIN_VALUE, 0));
+        }
+    }
+
+    public long getWindowMillis() {
+        return buckets * bucketMillis;
+    }
+
+    public long currentEpoch(long now) {
+        return now / bucketMillis;
+    }
+
+    public void increment(int key, long now) {
+        long epoch = currentEpoch(now);
+        int slot = (int) (epoch % buckets);
+        Bucket bucket = slots.get(slot);
+        while (bucket.epoch != epoch) {
+            if (bucket.epoch > epoch) {
+                return;
+            }
+            Bucket fresh = new Bucket(epoch, (stripeMask + 1) * keys);
+            bucket = slots.compareAndSet(slot, bucket, fresh) ? fresh : slots.get(slot);
+        }
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        bucket.counts.getAndIncrement(stripe * keys + key);
+    }
+
+    public long sum(int key, long now) {
+        long epoch = currentEpoch(now);
+        long sum = 0;
+        for (int slot = 0; slot < buckets; slot++) {
+            Bucket bucket = slots.get(slot);
+            if (bucket.epoch > epoch - buckets && bucket.epoch <= epoch) {
+                for (int stripe = 0; stripe <= stripeMask; stripe++) {
+                    sum += bucket.counts.get(stripe * keys + key);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static class Bucket {
+        private final long epoch;
+        private final AtomicLongArray counts;
+
+        private Bucket(long epoch, int length) {
+            this.epoch = epoch;
+            this.counts = new AtomicLongArray(length);
+        }
+    }
+}
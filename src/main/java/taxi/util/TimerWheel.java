@@ -0,0 +1,112 @@
+package taxi.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+public class TimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+    private final long tickMillis;
+    private final LongList[][] wheels = new LongList[LEVELS][SLOTS];
+    private final LongList due = new LongList();
+    private long currentTick;
+    private int size;
+
+    public TimerWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (LongList[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = new LongList();
+            }
+        }
+    }
+
+    public synchronized void schedule(long id, long deadlineMillis) {
+        place(id, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), 1);
+        size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public void advance(long nowMillis, LongConsumer expired) {
+        long[] fired;
+        int count;
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                        cascade(wheels[level][(int) (currentTick >>> (SLOT_BITS * level))
+                                & SLOT_MASK]);
+                    }
+                }
+                expire(wheels[0][(int) currentTick & SLOT_MASK]);
+            }
+            count = due.size;
+            fired = due.drain();
+        }
+        for (int i = 0; i < count; i++) {
+            expired.accept(fired[i]);
+        }
+    }
+
+    private void cascade(LongList slot) {
+        int count = slot.size;
+        long[] entries = slot.drain();
+        for (int i = 0; i < count; i += 2) {
+            place(entries[i], entries[i + 1], 0);
+        }
+    }
+
+    private void expire(LongList slot) {
+        int count = slot.size;
+        long[] entries = slot.drain();
+        for (int i = 0; i < count; i += 2) {
+            if (entries[i + 1] <= currentTick) {
+                due.add(entries[i]);
+                size--;
+            } else {
+                place(entries[i], entries[i + 1], 1);
+            }
+        }
+    }
+
+    private void place(long id, long deadlineTick, long minDelta) {
+        long delta = Math.min(Math.max(deadlineTick - currentTick, minDelta), MAX_DELTA);
+        long placedTick = currentTick + delta;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        LongList slot = wheels[level][(int) (placedTick >>> (SLOT_BITS * level)) & SLOT_MASK];
+        slot.add(id);
+        slot.add(deadlineTick);
+    }
+
+    private static class LongList {
+        private static final long[] EMPTY = new long[0];
+        private long[] values = EMPTY;
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(8, size * 2));
+            }
+            values[size++] = value;
+        }
+
+        private long[] drain() {
+            long[] drained = values;
+            values = EMPTY;
+            size = 0;
+            return drained;
+        }
+    }
+}
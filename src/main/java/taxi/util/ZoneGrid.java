@@ -0,0 +1,23 @@
+package taxi.util;
+
+public class ZoneGrid {
+    public static final int NO_ZONE = -1;
+    private static final double MIN_LATITUDE = 50.20;
+    private static final double MIN_LONGITUDE = 30.20;
+    private static final double CELL_DEGREES = 0.01;
+    private static final int ROWS = 50;
+    private static final int COLUMNS = 70;
+
+    public static int getZoneCount() {
+        return ROWS * COLUMNS;
+    }
+
+    public static int zoneOf(double latitude, double longitude) {
+        int row = (int) Math.floor((latitude - MIN_LATITUDE) / CELL_DEGREES);
+        int column = (int) Math.floor((longitude - MIN_LONGITUDE) / CELL_DEGREES);
+        if (row < 0 || row >= ROWS || column < 0 || column >= COLUMNS) {
+            return NO_ZONE;
+        }
+        return row * COLUMNS + column;
+    }
+}
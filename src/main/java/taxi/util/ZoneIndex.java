@@ -0,0 +1,178 @@
+package taxi.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ZoneIndex {
+    public static final int NO_ZONE = -1;
+    private static final int MAX_CELLS = 1 << 21;
+    private final String[] names;
+    private final Polygon[] polygons;
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double maxLatitude;
+    private final double maxLongitude;
+    private final double cellsPerDegree;
+    private final int rows;
+    private final int columns;
+    private final int[] cells;
+    private final int[][] candidates;
+
+    public ZoneIndex(Map<String, Polygon> zones, double cellDegrees) {
+        names = zones.keySet().toArray(new String[0]);
+        polygons = zones.values().toArray(new Polygon[0]);
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (Polygon polygon : polygons) {
+            minLat = Math.min(minLat, polygon.getMinLatitude());
+            maxLat = Math.max(maxLat, polygon.getMaxLatitude());
+            minLon = Math.min(minLon, polygon.getMinLongitude());
+            maxLon = Math.max(maxLon, polygon.getMaxLongitude());
+        }
+        if (polygons.length == 0) {
+            minLat = 0;
+            maxLat = 0;
+            minLon = 0;
+            maxLon = 0;
+        }
+        double cell = Math.max(cellDegrees,
+                Math.sqrt((maxLat - minLat) * (maxLon - minLon) / MAX_CELLS));
+        rows = Math.max(1, (int) Math.ceil((maxLat - minLat) / cell));
+        columns = Math.max(1, (int) Math.ceil((maxLon - minLon) / cell));
+        minLatitude = minLat;
+        minLongitude = minLon;
+        maxLatitude = minLat + rows * cell;
+        maxLongitude = minLon + columns * cell;
+        cellsPerDegree = 1 / cell;
+        cells = new int[rows * columns];
+        Map<Integer, List<Integer>> boundaries = new HashMap<>();
+        Arrays.fill(cells, NO_ZONE);
+        for (int zone = 0; zone < polygons.length; zone++) {
+            Polygon polygon = polygons[zone];
+            int lastRow = rowOf(polygon.getMaxLatitude());
+            int lastColumn = columnOf(polygon.getMaxLongitude());
+            for (int row = rowOf(polygon.getMinLatitude()); row <= lastRow; row++) {
+                for (int column = columnOf(polygon.getMinLongitude());
+                        column <= lastColumn; column++) {
+                    int index = row * columns + column;
+                    if (cells[index] != NO_ZONE) {
+                        continue;
+                    }
+                    Polygon.Coverage coverage = polygon.cover(minLat + row * cell,
+                            minLon + column * cell, minLat + (row + 1) * cell,
+                            minLon + (column + 1) * cell);
+                    if (coverage == Polygon.Coverage.INSIDE) {
+                        cells[index] = zone;
+                    } else if (coverage == Polygon.Coverage.PARTIAL) {
+                        boundaries.computeIfAbsent(index, i -> new ArrayList<>()).add(zone);
+                    }
+                }
+            }
+        }
+        candidates = resolveBoundaries(boundaries);
+    }
+
+    public static Map<String, Polygon> parse(List<String> lines, String source) {
+        Map<String, Polygon> zones = new LinkedHashMap<>();
+        for (int number = 1; number <= lines.size(); number++) {
+            String line = lines.get(number - 1).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                int colon = line.indexOf(':');
+                String name = line.substring(0, colon).trim();
+                if (name.isEmpty() || zones.containsKey(name)) {
+                    throw new IllegalArgumentException("Zone name is empty or repeated");
+                }
+                zones.put(name, Polygon.parse(line.substring(colon + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed zone at " + source + ":"
+                        + number, e);
+            }
+        }
+        return zones;
+    }
+
+    public int getZoneCount() {
+        return names.length;
+    }
+
+    public String getName(int zone) {
+        return names[zone];
+    }
+
+    public int getZone(String name) {
+        for (int zone = 0; zone < names.length; zone++) {
+            if (names[zone].equals(name)) {
+                return zone;
+            }
+        }
+        return NO_ZONE;
+    }
+
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    public int getBoundaryCellCount() {
+        int count = 0;
+        for (int cell : cells) {
+            if (cell < NO_ZONE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int zoneOf(double latitude, double longitude) {
+        if (!(latitude >= minLatitude && latitude < maxLatitude
+                && longitude >= minLongitude && longitude < maxLongitude)) {
+            return NO_ZONE;
+        }
+        int cell = cells[rowOf(latitude) * columns + columnOf(longitude)];
+        if (cell >= NO_ZONE) {
+            return cell;
+        }
+        int[] zones = candidates[NO_ZONE - 1 - cell];
+        int last = zones.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (polygons[zones[i]].contains(latitude, longitude)) {
+                return zones[i];
+            }
+        }
+        return zones[last];
+    }
+
+    private int rowOf(double latitude) {
+        return Math.min(rows - 1, Math.max(0, (int) ((latitude - minLatitude) * cellsPerDegree)));
+    }
+
+    private int columnOf(double longitude) {
+        return Math.min(columns - 1,
+                Math.max(0, (int) ((longitude - minLongitude) * cellsPerDegree)));
+    }
+
+    private int[][] resolveBoundaries(Map<Integer, List<Integer>> boundaries) {
+        Map<List<Integer>, Integer> shared = new HashMap<>();
+        List<int[]> distinct = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> entry : boundaries.entrySet()) {
+            List<Integer> zones = entry.getValue();
+            zones.add(cells[entry.getKey()]);
+            Integer position = shared.get(zones);
+            if (position == null) {
+                position = distinct.size();
+                shared.put(zones, position);
+                distinct.add(zones.stream().mapToInt(Integer::intValue).toArray());
+            }
+            cells[entry.getKey()] = NO_ZONE - 1 - position;
+        }
+        return distinct.toArray(new int[0][]);
+    }
+}
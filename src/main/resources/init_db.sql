@@ -14,7 +14,10 @@ CREATE TABLE `drivers` (
                            `is_deleted` bit(1) NOT NULL DEFAULT b'0',
                            `login` varchar(255) CHARACTER SET utf8 COLLATE utf8_general_ci NOT NULL,
                            `password` varchar(255) CHARACTER SET utf8 COLLATE utf8_general_ci NOT NULL,
-                           PRIMARY KEY (`id`) USING BTREE
+                           `version` bigint(20) unsigned NOT NULL DEFAULT 0,
+                           PRIMARY KEY (`id`) USING BTREE,
+                           INDEX `login`(`login`) USING BTREE,
+                           INDEX `deleted_name`(`is_deleted`, `name`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC;
 
 -- ----------------------------
@@ -38,8 +41,10 @@ CREATE TABLE `cars`  (
                          `model` varchar(255) CHARACTER SET utf8 COLLATE utf8_general_ci NOT NULL,
                          `manufacturer_id` bigint(0) UNSIGNED NOT NULL,
                          `is_deleted` bit(1) NOT NULL DEFAULT b'0',
+                         `version` bigint(0) UNSIGNED NOT NULL DEFAULT 0,
                          PRIMARY KEY (`id`) USING BTREE,
                          INDEX `FK_manufacturer_id`(`manufacturer_id`) USING BTREE,
+                         INDEX `deleted_model`(`is_deleted`, `model`) USING BTREE,
                          CONSTRAINT `FK_manufacturer_id` FOREIGN KEY (`manufacturer_id`) REFERENCES `manufacturers` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT
 ) ENGINE = InnoDB CHARACTER SET = utf8 COLLATE = utf8_general_ci ROW_FORMAT = Dynamic;
 
@@ -57,4 +62,48 @@ CREATE TABLE `cars_drivers`  (
                                  CONSTRAINT `driver_id` FOREIGN KEY (`driver_id`) REFERENCES `drivers` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT
 ) ENGINE = InnoDB CHARACTER SET = utf8 COLLATE = utf8_general_ci ROW_FORMAT = Dynamic;
 
+-- ----------------------------
+-- Table structure for car_locations
+-- ----------------------------
+DROP TABLE IF EXISTS `car_locations`;
+CREATE TABLE `car_locations`  (
+                                  `car_id` bigint(0) UNSIGNED NOT NULL,
+                                  `latitude` double NOT NULL,
+                                  `longitude` double NOT NULL,
+                                  `reported_at` datetime(3) NOT NULL,
+                                  PRIMARY KEY (`car_id`) USING BTREE,
+                                  CONSTRAINT `FK_location_car_id` FOREIGN KEY (`car_id`) REFERENCES `cars` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT
+) ENGINE = InnoDB CHARACTER SET = utf8 COLLATE = utf8_general_ci ROW_FORMAT = Dynamic;
+
+-- ----------------------------
+-- Table structure for driver_shifts
+-- ----------------------------
+DROP TABLE IF EXISTS `driver_shifts`;
+CREATE TABLE `driver_shifts`  (
+                                  `id` bigint(0) UNSIGNED NOT NULL AUTO_INCREMENT,
+                                  `driver_id` bigint(0) UNSIGNED NOT NULL,
+                                  `starts_at` datetime(3) NOT NULL,
+                                  `ends_at` datetime(3) NOT NULL,
+                                  `is_deleted` bit(1) NOT NULL DEFAULT b'0',
+                                  PRIMARY KEY (`id`) USING BTREE,
+                                  INDEX `driver_starts_at`(`driver_id`, `starts_at`) USING BTREE,
+                                  CONSTRAINT `FK_shift_driver_id` FOREIGN KEY (`driver_id`) REFERENCES `drivers` (`id`) ON DELETE RESTRICT ON UPDATE RESTRICT
+) ENGINE = InnoDB CHARACTER SET = utf8 COLLATE = utf8_general_ci ROW_FORMAT = Dynamic;
+
+-- ----------------------------
+-- Table structure for change_log
+-- ----------------------------
+DROP TABLE IF EXISTS `change_log`;
+CREATE TABLE `change_log`  (
+                               `id` bigint(0) UNSIGNED NOT NULL AUTO_INCREMENT,
+                               `node_id` char(36) CHARACTER SET ascii COLLATE ascii_general_ci NOT NULL,
+                               `entity` varchar(32) CHARACTER SET ascii COLLATE ascii_general_ci NOT NULL,
+                               `entity_id` bigint(0) UNSIGNED NOT NULL,
+                               `operation` varchar(16) CHARACTER SET ascii COLLATE ascii_general_ci NOT NULL,
+                               `related_ids` text CHARACTER SET ascii COLLATE ascii_general_ci NULL,
+                               `created_at` datetime(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+                               PRIMARY KEY (`id`) USING BTREE,
+                               INDEX `created_at`(`created_at`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8 COLLATE = utf8_general_ci ROW_FORMAT = Dynamic;
+
 SET FOREIGN_KEY_CHECKS = 1;
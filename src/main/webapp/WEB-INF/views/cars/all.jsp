@@ -1,5 +1,5 @@
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" buffer="8kb" autoFlush="true" %>
 <style>
     <%@include file='/WEB-INF/views/css/table_dark.css' %>
 </style>
@@ -19,6 +19,7 @@
         <th>Drivers</th>
         <th>Delete</th>
     </tr>
+    ${pageContext.out.flush()}
     <c:forEach var="car" items="${cars}">
         <tr>
             <td>
@@ -28,10 +29,10 @@
                 <c:out value="${car.model}"/>
             </td>
             <td>
-                <c:out value="${car.manufacturer.name}"/>
+                <c:out value="${car.manufacturerName}"/>
             </td>
             <td>
-                <c:out value="${car.manufacturer.country}"/>
+                <c:out value="${car.manufacturerCountry}"/>
             </td>
             <td>
                 <c:forEach var="driver" items="${car.drivers}">
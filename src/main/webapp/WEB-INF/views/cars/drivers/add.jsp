@@ -10,6 +10,7 @@
 <body>
 <%@include file="/WEB-INF/views/header.jsp"%>
 <form method="post" id="car" action="${pageContext.request.contextPath}/cars/drivers/add"></form>
+<form method="get" id="search" action="${pageContext.request.contextPath}/cars/drivers/add"></form>
 <h1 class="table_dark">Add driver to car:</h1>
 <table border="1" class="table_dark">
     <tr>
@@ -17,18 +18,29 @@
         <th>Driver ID</th>
         <th>Add</th>
     </tr>
+    <tr>
+        <td>
+            <input type="text" name="car" form="search" placeholder="Model starts with" value="<c:out value="${param.car}"/>">
+        </td>
+        <td>
+            <input type="text" name="driver" form="search" placeholder="Name starts with" value="<c:out value="${param.driver}"/>">
+        </td>
+        <td>
+            <input type="submit" value="Search" form="search">
+        </td>
+    </tr>
     <tr>
         <td>
             <select name="carId" form="car" required>
                 <c:forEach items="${cars}" var="car">
-                    <option name="carId" value="${car.id}"><c:out value="${car.id}"/>.<c:out value="${car.model}"/></option>
+                    <option name="carId" value="${car.id}"><c:out value="${car.id}"/>.<c:out value="${car.label}"/></option>
                 </c:forEach>
             </select>
         </td>
         <td>
             <select name="driverId" form="car" required>
                 <c:forEach items="${drivers}" var="driver">
-                    <option name="driverId" value="${driver.id}"><c:out value="${driver.id}"/>.<c:out value="${driver.name}"/></option>
+                    <option name="driverId" value="${driver.id}"><c:out value="${driver.id}"/>.<c:out value="${driver.label}"/></option>
                 </c:forEach>
             </select>
         </td>
@@ -1,5 +1,5 @@
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" buffer="8kb" autoFlush="true" %>
 <style>
     <%@include file='/WEB-INF/views/css/table_dark.css' %>
 </style>
@@ -18,6 +18,7 @@
         <th>Login</th>
         <th>Delete</th>
     </tr>
+    ${pageContext.out.flush()}
     <c:forEach var="driver" items="${drivers}">
         <tr>
             <td>
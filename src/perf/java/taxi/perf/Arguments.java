@@ -0,0 +1,42 @@
+package taxi.perf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class Arguments {
+    private final Map<String, String> options = new HashMap<>();
+
+    public Arguments(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+    }
+
+    public boolean has(String name) {
+        return options.containsKey(name);
+    }
+
+    public String get(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return has(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    public long getLong(String name, long defaultValue) {
+        return has(name) ? Long.parseLong(options.get(name)) : defaultValue;
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        return has(name) ? Double.parseDouble(options.get(name)) : defaultValue;
+    }
+
+    public boolean getBoolean(String name, boolean defaultValue) {
+        return has(name) ? Boolean.parseBoolean(options.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,51 @@
+package taxi.perf;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class BatchInsertSink implements RowSink {
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+    private long rows;
+
+    public BatchInsertSink(Connection connection, Table table, int batchSize)
+            throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        statement = connection.prepareStatement(table.insertSql());
+    }
+
+    @Override
+    public void add(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+        rows++;
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public long finish() throws SQLException {
+        flush();
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+
+    private void flush() throws SQLException {
+        if (pending > 0) {
+            statement.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+    }
+}
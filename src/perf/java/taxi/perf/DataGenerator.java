@@ -0,0 +1,166 @@
+package taxi.perf;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+public class DataGenerator {
+    public static final String LOGIN_PREFIX = "driver";
+    public static final String PASSWORD = "password";
+    private static final String[] COUNTRIES = {"Germany", "Japan", "USA", "Ukraine",
+            "France", "Italy", "Korea", "China", "Sweden", "Czech Republic"};
+    private static final String[] MODELS = {"Sedan", "Wagon", "Hatchback", "Coupe",
+            "Minivan", "Crossover", "Pickup", "Roadster"};
+    private static final String[] FIRST_NAMES = {"Ivan", "Olena", "Petro", "Maria",
+            "Andrii", "Iryna", "Taras", "Oksana", "Dmytro", "Sofia"};
+    private static final String[] LAST_NAMES = {"Shevchenko", "Kovalenko", "Bondarenko",
+            "Tkachenko", "Kravchenko", "Oliinyk", "Melnyk", "Boiko"};
+    private static final String[] CLEARED_TABLES = {"cars_drivers", "car_locations", "cars",
+            "drivers", "manufacturers"};
+    private final Arguments arguments;
+    private final long seed;
+    private final int manufacturers;
+    private final int cars;
+    private final int drivers;
+    private final double deletedFraction;
+
+    public DataGenerator(Arguments arguments) {
+        this.arguments = arguments;
+        seed = arguments.getLong("seed", 42);
+        manufacturers = arguments.getInt("manufacturers", 1_000);
+        cars = arguments.getInt("cars", 1_000_000);
+        drivers = arguments.getInt("drivers", 1_000_000);
+        deletedFraction = arguments.getDouble("deleted", 0.05);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        new DataGenerator(new Arguments(args)).run();
+    }
+
+    public void run() throws SQLException {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET unique_checks = 0");
+                statement.execute("SET foreign_key_checks = 0");
+                if (arguments.getBoolean("truncate", false)) {
+                    for (String table : CLEARED_TABLES) {
+                        statement.execute("TRUNCATE TABLE " + table);
+                    }
+                }
+            }
+            load(connection, Table.MANUFACTURERS);
+            load(connection, Table.DRIVERS);
+            load(connection, Table.CARS);
+            load(connection, Table.CARS_DRIVERS);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET foreign_key_checks = 1");
+                statement.execute("SET unique_checks = 1");
+            }
+        }
+    }
+
+    private void load(Connection connection, Table table) throws SQLException {
+        long start = System.nanoTime();
+        long rows;
+        try (RowSink sink = openSink(connection, table)) {
+            generate(table, new Random(seed * 31 + table.ordinal()), sink);
+            rows = sink.finish();
+        }
+        double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("%-14s %,12d rows in %7.1f s (%,.0f rows/s)%n",
+                table.getName(), rows, seconds, rows / seconds);
+    }
+
+    private RowSink openSink(Connection connection, Table table) throws SQLException {
+        String mode = arguments.get("mode", "insert");
+        switch (mode) {
+            case "insert":
+                return new BatchInsertSink(connection, table, arguments.getInt("batch", 5_000));
+            case "infile":
+                return new InfileSink(connection, table);
+            default:
+                throw new IllegalArgumentException("Unknown load mode " + mode
+                        + ", expected insert or infile");
+        }
+    }
+
+    private void generate(Table table, Random random, RowSink sink) throws SQLException {
+        switch (table) {
+            case MANUFACTURERS:
+                for (long id = 1; id <= manufacturers; id++) {
+                    sink.add(id, "Manufacturer " + id, pick(COUNTRIES, random), deleted(random));
+                }
+                break;
+            case DRIVERS:
+                for (long id = 1; id <= drivers; id++) {
+                    sink.add(id, pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random),
+                            String.format("LIC%09d", id), deleted(random), LOGIN_PREFIX + id,
+                            PASSWORD);
+                }
+                break;
+            case CARS:
+                Distribution manufacturerSkew = Distribution.zipf(manufacturers,
+                        arguments.getDouble("manufacturer-skew", 1.1));
+                for (long id = 1; id <= cars; id++) {
+                    sink.add(id, pick(MODELS, random) + " " + (id % 100),
+                            manufacturerSkew.sample(random) + 1L, deleted(random));
+                }
+                break;
+            case CARS_DRIVERS:
+                Distribution driversPerCar = Distribution.histogram(
+                        arguments.get("drivers-per-car", "0:20,1:40,2:25,3:10,4:5"));
+                long[] chosen = new long[driversPerCar.size()];
+                for (long carId = 1; carId <= cars; carId++) {
+                    int count = Math.min(driversPerCar.sample(random), drivers);
+                    for (int i = 0; i < count; i++) {
+                        chosen[i] = nextDistinct(random, chosen, i);
+                        sink.add(carId, chosen[i]);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("No generator for " + table);
+        }
+    }
+
+    private long nextDistinct(Random random, long[] chosen, int count) {
+        while (true) {
+            long driverId = random.nextInt(drivers) + 1L;
+            boolean duplicate = false;
+            for (int i = 0; i < count && !duplicate; i++) {
+                duplicate = chosen[i] == driverId;
+            }
+            if (!duplicate) {
+                return driverId;
+            }
+        }
+    }
+
+    private boolean deleted(Random random) {
+        return random.nextDouble() < deletedFraction;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    static Connection connect() throws SQLException {
+        String url = System.getProperty("taxi.db.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dtaxi.db.url (and taxi.db.user, "
+                    + "taxi.db.password) to the schema to populate");
+        }
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("taxi.db.user", ""));
+        properties.setProperty("password", System.getProperty("taxi.db.password", ""));
+        properties.setProperty("rewriteBatchedStatements", "true");
+        properties.setProperty("allowLoadLocalInfile", "true");
+        properties.setProperty("useServerPrepStmts", "false");
+        return DriverManager.getConnection(url, properties);
+    }
+}
@@ -0,0 +1,55 @@
+package taxi.perf;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class Distribution {
+    private final double[] cumulative;
+
+    private Distribution(double[] weights) {
+        cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Distribution weights must sum to a positive value");
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    public static Distribution zipf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int rank = 0; rank < size; rank++) {
+            weights[rank] = 1 / Math.pow(rank + 1, exponent);
+        }
+        return new Distribution(weights);
+    }
+
+    public static Distribution histogram(String spec) {
+        String[] entries = spec.split(",");
+        int size = 0;
+        for (String entry : entries) {
+            size = Math.max(size, Integer.parseInt(entry.split(":")[0].trim()) + 1);
+        }
+        double[] weights = new double[size];
+        for (String entry : entries) {
+            String[] parts = entry.split(":");
+            weights[Integer.parseInt(parts[0].trim())] = Double.parseDouble(parts[1].trim());
+        }
+        return new Distribution(weights);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int position = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(position, cumulative.length - 1);
+    }
+}
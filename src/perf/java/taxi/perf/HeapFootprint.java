@@ -0,0 +1,34 @@
+package taxi.perf;
+
+import java.util.List;
+import java.util.function.Supplier;
+import taxi.dao.CarDao;
+import taxi.lib.Injector;
+
+public class HeapFootprint {
+    private static final int GC_ROUNDS = 5;
+    private static final double MEGABYTE = 1024 * 1024;
+
+    public static void main(String[] args) {
+        CarDao carDao = (CarDao) Injector.getInstance("taxi").getInstance(CarDao.class);
+        System.out.printf("%-12s %10s %12s %12s%n", "listing", "cars", "retained MB", "bytes/car");
+        measure("entities", carDao::getAll);
+        measure("views", carDao::getAllViews);
+    }
+
+    private static void measure(String name, Supplier<List<?>> loader) {
+        long before = usedAfterGc();
+        List<?> cars = loader.get();
+        long retained = usedAfterGc() - before;
+        System.out.printf("%-12s %,10d %12.1f %12.1f%n", name, cars.size(), retained / MEGABYTE,
+                retained / (double) Math.max(1, cars.size()));
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,77 @@
+package taxi.perf;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class InfileSink implements RowSink {
+    private final Connection connection;
+    private final Table table;
+    private final Path file;
+    private final BufferedWriter writer;
+    private long rows;
+
+    public InfileSink(Connection connection, Table table) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        try {
+            file = Files.createTempFile("taxi-" + table.getName(), ".tsv");
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't create data file for " + table.getName(), e);
+        }
+    }
+
+    @Override
+    public void add(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+                writer.write(format(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write data file " + file, e);
+        }
+        rows++;
+    }
+
+    @Override
+    public long finish() throws SQLException {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write data file " + file, e);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(table.loadSql(file.toAbsolutePath().toString()));
+        }
+        connection.commit();
+        return rows;
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't delete data file " + file, e);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        }
+        return String.valueOf(value);
+    }
+}
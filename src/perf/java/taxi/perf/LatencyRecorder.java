@@ -0,0 +1,62 @@
+package taxi.perf;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyRecorder {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public synchronized void record(long latencyNanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    public synchronized void copyTo(LatencyRecorder target) {
+        for (int i = 0; i < count; i++) {
+            target.record(latencies[i], false);
+        }
+        target.addErrors(errors);
+    }
+
+    public synchronized String report(String name, double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        StringBuilder line = new StringBuilder(String.format("%-16s %8d %7d %10.1f",
+                name, count, errors, count / seconds));
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(" %9.2f", millis(sorted, percentile)));
+        }
+        line.append(String.format(" %9.2f", count == 0 ? 0.0 : toMillis(sorted[count - 1])));
+        return line.toString();
+    }
+
+    private synchronized void addErrors(int more) {
+        errors += more;
+    }
+
+    public static String header() {
+        return String.format("%-16s %8s %7s %10s %9s %9s %9s %9s %9s",
+                "scenario", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms",
+                "p99.9 ms", "max ms");
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return toMillis(sorted[Math.max(0, index)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,152 @@
+package taxi.perf;
+
+import java.net.CookieManager;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import taxi.launcher.EmbeddedLauncher;
+import taxi.launcher.LauncherConfig;
+
+public class LoadTest {
+    private static final int HTTP_REDIRECT = 302;
+    private static final int HTTP_ERROR = 400;
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private final LoadTestConfig config;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "load-test-client");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<HttpClient> sessions = new ArrayList<>();
+    private final Map<Scenario, LatencyRecorder> corrected = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LatencyRecorder> uncorrected = new EnumMap<>(Scenario.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig(args);
+        EmbeddedLauncher server = null;
+        if (config.isEmbedded()) {
+            System.setProperty("taxi.ratelimit.enabled", "false");
+            server = new EmbeddedLauncher(new LauncherConfig().setPort(config.getPort()));
+            server.start();
+            server.reportFirstRequest();
+        }
+        try {
+            new LoadTest(config).run();
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+    }
+
+    public void run() throws Exception {
+        logIn();
+        System.out.printf("Warming up for %d s at %.1f req/s%n",
+                config.getWarmupSeconds(), config.getRate());
+        drive(config.getWarmupSeconds());
+        resetRecorders();
+        System.out.printf("Measuring for %d s at %.1f req/s%n",
+                config.getDurationSeconds(), config.getRate());
+        drive(config.getDurationSeconds());
+        report("Latency from intended start (coordinated omission corrected)", corrected);
+        report("Latency from actual send (uncorrected)", uncorrected);
+    }
+
+    private void logIn() throws Exception {
+        for (int user = 1; user <= config.getUsers(); user++) {
+            HttpClient client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            HttpResponse<Void> response = client.send(Scenario.login(config, user),
+                    HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != HTTP_REDIRECT) {
+                System.out.printf("Skipping user %d, login answered %d instead of a redirect%n",
+                        user, response.statusCode());
+                continue;
+            }
+            sessions.add(client);
+        }
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("None of " + config.getUsers()
+                    + " users could log in");
+        }
+    }
+
+    private void drive(int seconds) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getRate());
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(intended);
+        }
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private void fire(long intended) {
+        Scenario scenario = Scenario.pick();
+        HttpClient client = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        long sent = System.nanoTime();
+        inFlight.incrementAndGet();
+        client.sendAsync(scenario.request(config), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long now = System.nanoTime();
+                    boolean failed = error != null || response.statusCode() >= HTTP_ERROR;
+                    recorder(corrected, scenario).record(now - intended, failed);
+                    recorder(uncorrected, scenario).record(now - sent, failed);
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private synchronized LatencyRecorder recorder(Map<Scenario, LatencyRecorder> recorders,
+                                                  Scenario scenario) {
+        return recorders.computeIfAbsent(scenario, key -> new LatencyRecorder());
+    }
+
+    private synchronized void resetRecorders() {
+        corrected.clear();
+        uncorrected.clear();
+    }
+
+    private synchronized void report(String title, Map<Scenario, LatencyRecorder> recorders) {
+        System.out.println();
+        System.out.println(title);
+        System.out.println(LatencyRecorder.header());
+        LatencyRecorder total = new LatencyRecorder();
+        for (Scenario scenario : Scenario.values()) {
+            LatencyRecorder recorder = recorders.get(scenario);
+            if (recorder != null) {
+                System.out.println(recorder.report(scenario.name(), config.getDurationSeconds()));
+                recorder.copyTo(total);
+            }
+        }
+        System.out.println(total.report("TOTAL", config.getDurationSeconds()));
+    }
+}
@@ -0,0 +1,53 @@
+package taxi.perf;
+
+public class LoadTestConfig {
+    private final Arguments arguments;
+
+    public LoadTestConfig(String[] args) {
+        arguments = new Arguments(args);
+    }
+
+    public boolean isEmbedded() {
+        return !arguments.has("base-url");
+    }
+
+    public int getPort() {
+        return arguments.getInt("port", 8080);
+    }
+
+    public String getBaseUrl() {
+        return arguments.get("base-url", "http://localhost:" + getPort());
+    }
+
+    public double getRate() {
+        return arguments.getDouble("rate", 100);
+    }
+
+    public int getDurationSeconds() {
+        return arguments.getInt("duration", 60);
+    }
+
+    public int getWarmupSeconds() {
+        return arguments.getInt("warmup", 10);
+    }
+
+    public int getUsers() {
+        return arguments.getInt("users", 50);
+    }
+
+    public String getLoginPrefix() {
+        return arguments.get("login-prefix", DataGenerator.LOGIN_PREFIX);
+    }
+
+    public String getPassword() {
+        return arguments.get("password", DataGenerator.PASSWORD);
+    }
+
+    public long getMaxCarId() {
+        return arguments.getLong("max-car-id", 1000);
+    }
+
+    public long getMaxDriverId() {
+        return arguments.getLong("max-driver-id", 1000);
+    }
+}
@@ -0,0 +1,131 @@
+package taxi.perf;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import taxi.dao.mapper.CarMapper;
+import taxi.dao.mapper.Columns;
+import taxi.dao.mapper.DriverMapper;
+import taxi.dao.mapper.RowReader;
+import taxi.model.Car;
+import taxi.model.Driver;
+import taxi.model.Manufacturer;
+
+public class MapperBenchmark {
+    private static final String DRIVERS_QUERY = "SELECT * FROM drivers LIMIT ?";
+    private static final String CARS_QUERY = "SELECT c.id AS id, model, c.version AS version, "
+            + "manufacturer_id, m.name AS manufacturer_name, m.country AS manufacturer_country "
+            + "FROM cars c JOIN manufacturers m ON c.manufacturer_id = m.id LIMIT ?";
+    private final Arguments arguments;
+    private long sink;
+
+    public MapperBenchmark(Arguments arguments) {
+        this.arguments = arguments;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        new MapperBenchmark(new Arguments(args)).run();
+    }
+
+    public void run() throws SQLException {
+        int rows = arguments.getInt("rows", 1_000_000);
+        int iterations = arguments.getInt("iterations", 5);
+        try (Connection connection = DataGenerator.connect()) {
+            System.out.printf("%-8s %-8s %10s %12s%n", "entity", "mapper", "rows", "ns/row");
+            try (ResultSet resultSet = load(connection, DRIVERS_QUERY, rows)) {
+                Mapper byLabel = MapperBenchmark::parseDriverByLabel;
+                Mapper byIndex = set -> {
+                    RowReader<Driver> reader = new DriverMapper().bind(Columns.of(set));
+                    long checksum = 0;
+                    while (set.next()) {
+                        checksum += reader.read(set).getId();
+                    }
+                    return checksum;
+                };
+                compare("driver", resultSet, byLabel, byIndex, iterations);
+            }
+            try (ResultSet resultSet = load(connection, CARS_QUERY, rows)) {
+                Mapper byLabel = MapperBenchmark::parseCarByLabel;
+                Mapper byIndex = set -> {
+                    RowReader<Car> reader = new CarMapper().bind(Columns.of(set));
+                    long checksum = 0;
+                    while (set.next()) {
+                        checksum += reader.read(set).getManufacturer().getId();
+                    }
+                    return checksum;
+                };
+                compare("car", resultSet, byLabel, byIndex, iterations);
+            }
+        }
+        System.out.println("checksum " + sink);
+    }
+
+    private void compare(String entity, ResultSet resultSet, Mapper byLabel, Mapper byIndex,
+                         int iterations) throws SQLException {
+        resultSet.last();
+        int count = resultSet.getRow();
+        for (int i = 0; i < iterations; i++) {
+            boolean report = i == iterations - 1;
+            measure(entity, "label", resultSet, byLabel, count, report);
+            measure(entity, "index", resultSet, byIndex, count, report);
+        }
+    }
+
+    private void measure(String entity, String name, ResultSet resultSet, Mapper mapper,
+                         int count, boolean report) throws SQLException {
+        resultSet.beforeFirst();
+        long start = System.nanoTime();
+        sink += mapper.map(resultSet);
+        long elapsed = System.nanoTime() - start;
+        if (report) {
+            System.out.printf("%-8s %-8s %,10d %12.1f%n", entity, name, count,
+                    elapsed / (double) Math.max(1, count));
+        }
+    }
+
+    private static ResultSet load(Connection connection, String query, int rows)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query,
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        statement.closeOnCompletion();
+        statement.setInt(1, rows);
+        return statement.executeQuery();
+    }
+
+    private static long parseDriverByLabel(ResultSet resultSet) throws SQLException {
+        long checksum = 0;
+        while (resultSet.next()) {
+            Driver driver = new Driver();
+            driver.setId(resultSet.getObject("id", Long.class));
+            driver.setName(resultSet.getNString("name"));
+            driver.setLicenseNumber(resultSet.getNString("license_number"));
+            driver.setLogin(resultSet.getNString("login"));
+            driver.setPassword(resultSet.getNString("password"));
+            driver.setVersion(resultSet.getLong("version"));
+            checksum += driver.getId();
+        }
+        return checksum;
+    }
+
+    private static long parseCarByLabel(ResultSet resultSet) throws SQLException {
+        long checksum = 0;
+        while (resultSet.next()) {
+            Manufacturer manufacturer = new Manufacturer();
+            manufacturer.setId(resultSet.getObject("manufacturer_id", Long.class));
+            manufacturer.setName(resultSet.getNString("manufacturer_name"));
+            manufacturer.setCountry(resultSet.getNString("manufacturer_country"));
+            Car car = new Car();
+            car.setId(resultSet.getObject("id", Long.class));
+            car.setModel(resultSet.getNString("model"));
+            car.setManufacturer(manufacturer);
+            car.setVersion(resultSet.getLong("version"));
+            checksum += car.getManufacturer().getId();
+        }
+        return checksum;
+    }
+
+    private interface Mapper {
+        long map(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -0,0 +1,258 @@
+package taxi.perf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import taxi.dao.CarDao;
+import taxi.dao.Cursor;
+import taxi.dao.DriverDao;
+import taxi.dao.ManufacturerDao;
+import taxi.dao.ShiftDao;
+import taxi.lib.Injector;
+import taxi.model.Car;
+import taxi.model.Driver;
+import taxi.model.LabeledId;
+import taxi.model.Manufacturer;
+import taxi.model.Shift;
+import taxi.util.ConnectionUtil;
+
+public class QueryPlanCheck {
+    private static final String SCAN = "scan";
+    private static final String ROWS = "rows";
+    private static final String FILESORT = "filesort";
+    private static final String TEMPORARY = "temporary";
+    private static final Pattern LIMIT = Pattern.compile("\\bLIMIT \\?\\s*$");
+    private final Arguments arguments;
+    private final Map<String, Map<String, Map<Integer, Object>>> statements =
+            new LinkedHashMap<>();
+    private final Injector injector = Injector.getInstance("taxi");
+
+    public QueryPlanCheck(Arguments arguments) {
+        this.arguments = arguments;
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        if (!new QueryPlanCheck(new Arguments(args)).run()) {
+            System.exit(1);
+        }
+    }
+
+    public boolean run() throws SQLException, IOException {
+        long maxRows = arguments.getLong("max-rows", 1000);
+        Properties allowlist = loadAllowlist(Paths.get(arguments.get("allowlist",
+                "src/perf/query-plan-allowlist.properties")));
+        ConnectionUtil.StatementListener listener = (operation, sql, parameters) ->
+                statements.computeIfAbsent(operation == null ? "unknown" : operation,
+                        key -> new LinkedHashMap<>()).putIfAbsent(sql, parameters);
+        ConnectionUtil.addStatementListener(listener);
+        try {
+            exerciseDaos();
+        } finally {
+            ConnectionUtil.removeStatementListener(listener);
+        }
+        int failures = 0;
+        Set<String> usedAllowances = new HashSet<>();
+        try (Connection connection = DataGenerator.connect()) {
+            for (Map.Entry<String, Map<String, Map<Integer, Object>>> entry
+                    : statements.entrySet()) {
+                String operation = entry.getKey();
+                Set<String> allowed = parse(allowlist.getProperty(operation, ""));
+                for (Map.Entry<String, Map<Integer, Object>> statement
+                        : entry.getValue().entrySet()) {
+                    if (statement.getKey().startsWith("INSERT")) {
+                        continue;
+                    }
+                    List<String> plan = new ArrayList<>();
+                    Set<String> violations = explain(connection, statement.getKey(),
+                            statement.getValue(), maxRows, plan);
+                    Set<String> unexpected = new TreeSet<>(violations);
+                    unexpected.removeAll(allowed);
+                    violations.retainAll(allowed);
+                    violations.forEach(kind -> usedAllowances.add(operation + "=" + kind));
+                    System.out.printf("%-4s %-36s %s%n", unexpected.isEmpty() ? "ok" : "FAIL",
+                            operation, unexpected.isEmpty() ? "" : unexpected);
+                    if (!unexpected.isEmpty()) {
+                        System.out.println("     " + statement.getKey());
+                        plan.forEach(row -> System.out.println("       " + row));
+                        failures++;
+                    }
+                }
+            }
+        }
+        for (String operation : allowlist.stringPropertyNames()) {
+            for (String kind : parse(allowlist.getProperty(operation))) {
+                if (!usedAllowances.contains(operation + "=" + kind)) {
+                    System.out.printf("Stale allowance %s=%s, the plan no longer needs it%n",
+                            operation, kind);
+                }
+            }
+        }
+        System.out.printf("%d operations, %d failing statements%n", statements.size(),
+                failures);
+        return failures == 0;
+    }
+
+    private void exerciseDaos() throws SQLException {
+        CarDao carDao = (CarDao) injector.getInstance(CarDao.class);
+        DriverDao driverDao = (DriverDao) injector.getInstance(DriverDao.class);
+        ManufacturerDao manufacturerDao =
+                (ManufacturerDao) injector.getInstance(ManufacturerDao.class);
+        long carId = firstId("SELECT car_id FROM cars_drivers cd JOIN cars c"
+                + " ON cd.car_id = c.id WHERE c.is_deleted = FALSE");
+        long driverId = firstId("SELECT driver_id FROM cars_drivers cd JOIN drivers d"
+                + " ON cd.driver_id = d.id WHERE d.is_deleted = FALSE");
+        final Driver sampleDriver = driverDao.get(driverId).orElseThrow();
+        final Manufacturer sampleManufacturer = carDao.get(carId).orElseThrow().getManufacturer();
+
+        manufacturerDao.getAll();
+        Manufacturer manufacturer = manufacturerDao.create(
+                new Manufacturer("Plan check", "Nowhere"));
+        manufacturerDao.get(manufacturer.getId());
+        manufacturerDao.update(manufacturer);
+        manufacturerDao.delete(manufacturer.getId());
+
+        driverDao.getAll();
+        driverDao.getAllViews();
+        try (Cursor<?> cursor = driverDao.streamAllViews()) {
+            cursor.forEachRemaining(view -> { });
+        }
+        driverDao.getLabels(null, null, 101);
+        driverDao.getLabels(sampleDriver.getName().substring(0, 1),
+                new LabeledId(driverId, sampleDriver.getName()), 101);
+        driverDao.getByLogin(sampleDriver.getLogin());
+        Driver driver = driverDao.create(new Driver("Plan check", "PC-0", "plan.check."
+                + System.nanoTime(), "password"));
+        driverDao.update(driverDao.get(driver.getId()).orElseThrow());
+
+        carDao.getAll();
+        carDao.getAllByDriver(driverId);
+        carDao.getAllViews();
+        try (Cursor<?> cursor = carDao.streamAllViews()) {
+            cursor.forEachRemaining(view -> { });
+        }
+        carDao.getAllViewsByDriver(driverId);
+        LabeledId firstCar = carDao.getLabels(null, null, 101).get(0);
+        carDao.getLabels(firstCar.getLabel().substring(0, 1), firstCar, 101);
+        carDao.getAllIds();
+        carDao.getAllIdsWithDrivers();
+        Car car = new Car("Plan check", sampleManufacturer);
+        car.setDrivers(new ArrayList<>(List.of(driver)));
+        carDao.create(car);
+        car = carDao.get(car.getId()).orElseThrow();
+        car.setDrivers(new ArrayList<>(List.of(driver, sampleDriver)));
+        carDao.update(car);
+        car.setDrivers(new ArrayList<>(List.of(sampleDriver)));
+        carDao.update(car);
+        carDao.assignDrivers(Set.of(car.getId()), Set.of(driver.getId(), sampleDriver.getId()));
+        carDao.unassignDrivers(Set.of(car.getId()), Set.of(driver.getId()));
+        carDao.delete(car.getId());
+
+        ShiftDao shiftDao = (ShiftDao) injector.getInstance(ShiftDao.class);
+        Shift shift = shiftDao.create(new Shift(driver.getId(), System.currentTimeMillis(),
+                System.currentTimeMillis() + 1000));
+        shiftDao.get(shift.getId());
+        shiftDao.update(shift);
+        shiftDao.getAllByDriver(driverId);
+        shiftDao.getAll();
+        shiftDao.getAssignedCarIds(Set.of(driverId, driver.getId()));
+        shiftDao.delete(shift.getId());
+        driverDao.delete(driver.getId());
+    }
+
+    private Set<String> explain(Connection connection, String sql,
+                                Map<Integer, Object> parameters, long maxRows,
+                                List<String> plan) throws SQLException {
+        Set<String> violations = new TreeSet<>();
+        Long limit = limitOf(sql, parameters);
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                statement.setObject(parameter.getKey(), parameter.getValue());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    String type = resultSet.getString("type");
+                    String extra = resultSet.getString("Extra");
+                    plan.add(String.format("table = %s, type = %s, key = %s, rows = %d, extra = %s",
+                            resultSet.getString("table"), type, resultSet.getString("key"),
+                            resultSet.getLong(ROWS), extra));
+                    if ("ALL".equals(type) || "index".equals(type)) {
+                        violations.add(SCAN);
+                    }
+                    boolean sorted = extra != null && (extra.contains("Using filesort")
+                            || extra.contains("Using temporary"));
+                    long rows = resultSet.getLong(ROWS);
+                    if (limit != null && !sorted) {
+                        rows = Math.min(rows, limit);
+                    }
+                    if (rows > maxRows) {
+                        violations.add(ROWS);
+                    }
+                    if (extra != null && extra.contains("Using filesort")) {
+                        violations.add(FILESORT);
+                    }
+                    if (extra != null && extra.contains("Using temporary")) {
+                        violations.add(TEMPORARY);
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static Long limitOf(String sql, Map<Integer, Object> parameters) {
+        if (!LIMIT.matcher(sql).find()) {
+            return null;
+        }
+        Object limit = parameters.get((int) sql.chars().filter(c -> c == '?').count());
+        return limit instanceof Number ? ((Number) limit).longValue() : null;
+    }
+
+    private long firstId(String query) throws SQLException {
+        try (Connection connection = DataGenerator.connect();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(query + " LIMIT 1")) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("No sample row for " + query
+                        + ", seed the database with DataGenerator first");
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static Properties loadAllowlist(Path path) throws IOException {
+        Properties allowlist = new Properties();
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                allowlist.load(reader);
+            }
+        }
+        return allowlist;
+    }
+
+    private static Set<String> parse(String kinds) {
+        Set<String> parsed = new TreeSet<>();
+        Arrays.stream(kinds.split("[,\\s]+"))
+                .map(kind -> kind.trim().toLowerCase(Locale.ROOT))
+                .filter(kind -> !kind.isEmpty())
+                .forEach(parsed::add);
+        return parsed;
+    }
+}
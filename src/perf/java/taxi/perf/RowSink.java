@@ -0,0 +1,12 @@
+package taxi.perf;
+
+import java.sql.SQLException;
+
+public interface RowSink extends AutoCloseable {
+    void add(Object... values) throws SQLException;
+
+    long finish() throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,74 @@
+package taxi.perf;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum Scenario {
+    MY_CARS(40) {
+        @Override
+        HttpRequest request(LoadTestConfig config) {
+            return HttpRequest.newBuilder(uri(config, "/drivers/cars")).GET().build();
+        }
+    },
+    LIST_CARS(40) {
+        @Override
+        HttpRequest request(LoadTestConfig config) {
+            return HttpRequest.newBuilder(uri(config, "/cars")).GET().build();
+        }
+    },
+    ASSIGN_DRIVER(15) {
+        @Override
+        HttpRequest request(LoadTestConfig config) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return form(uri(config, "/cars/drivers/add"),
+                    "carId=" + random.nextLong(1, config.getMaxCarId() + 1)
+                    + "&driverId=" + random.nextLong(1, config.getMaxDriverId() + 1));
+        }
+    },
+    LOGIN(5) {
+        @Override
+        HttpRequest request(LoadTestConfig config) {
+            return login(config, ThreadLocalRandom.current().nextInt(1, config.getUsers() + 1));
+        }
+    };
+
+    private final int weight;
+
+    Scenario(int weight) {
+        this.weight = weight;
+    }
+
+    abstract HttpRequest request(LoadTestConfig config);
+
+    static Scenario pick() {
+        int total = 0;
+        for (Scenario scenario : values()) {
+            total += scenario.weight;
+        }
+        int ticket = ThreadLocalRandom.current().nextInt(total);
+        for (Scenario scenario : values()) {
+            ticket -= scenario.weight;
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        return MY_CARS;
+    }
+
+    static HttpRequest login(LoadTestConfig config, int user) {
+        return form(uri(config, "/login"), "login=" + config.getLoginPrefix() + user
+                + "&password=" + config.getPassword());
+    }
+
+    private static HttpRequest form(URI uri, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static URI uri(LoadTestConfig config, String path) {
+        return URI.create(config.getBaseUrl() + path);
+    }
+}
@@ -0,0 +1,51 @@
+package taxi.perf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public enum Table {
+    MANUFACTURERS("manufacturers", "id", "name", "country", "is_deleted"),
+    DRIVERS("drivers", "id", "name", "license_number", "is_deleted", "login", "password"),
+    CARS("cars", "id", "model", "manufacturer_id", "is_deleted"),
+    CARS_DRIVERS("cars_drivers", "car_id", "driver_id");
+
+    private static final String BIT_COLUMN = "is_deleted";
+    private final String name;
+    private final String[] columns;
+
+    Table(String name, String... columns) {
+        this.name = name;
+        this.columns = columns;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public String insertSql() {
+        String placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+        return "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES ("
+                + placeholders + ")";
+    }
+
+    public String loadSql(String path) {
+        List<String> targets = new ArrayList<>();
+        String assignments = "";
+        for (String column : columns) {
+            if (column.equals(BIT_COLUMN)) {
+                targets.add("@" + column);
+                assignments = " SET " + column + " = (@" + column + " = 1)";
+            } else {
+                targets.add(column);
+            }
+        }
+        return "LOAD DATA LOCAL INFILE '" + path.replace('\\', '/') + "' INTO TABLE " + name
+                + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' ("
+                + String.join(", ", targets) + ")" + assignments;
+    }
+}
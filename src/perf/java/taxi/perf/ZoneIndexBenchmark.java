@@ -0,0 +1,108 @@
+package taxi.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import taxi.util.Polygon;
+import taxi.util.ZoneIndex;
+
+public class ZoneIndexBenchmark {
+    private static final double MIN_LATITUDE = 50.20;
+    private static final double MAX_LATITUDE = 50.70;
+    private static final double MIN_LONGITUDE = 30.20;
+    private static final double MAX_LONGITUDE = 30.95;
+    private final Arguments arguments;
+    private long sink;
+
+    public ZoneIndexBenchmark(Arguments arguments) {
+        this.arguments = arguments;
+    }
+
+    public static void main(String[] args) throws IOException {
+        new ZoneIndexBenchmark(new Arguments(args)).run();
+    }
+
+    public void run() throws IOException {
+        String file = arguments.get("zones", "src/main/resources/zones.txt");
+        int points = arguments.getInt("points", 10_000_000);
+        final int iterations = arguments.getInt("iterations", 5);
+        List<String> lines = Files.readAllLines(Paths.get(file));
+        Map<String, Polygon> zones = ZoneIndex.parse(lines, file);
+        Polygon[] polygons = zones.values().toArray(new Polygon[0]);
+        long started = System.nanoTime();
+        ZoneIndex index = new ZoneIndex(zones, arguments.getDouble("cell-degrees", 0.0005));
+        System.out.printf("zones %d, cells %,d, boundary cells %,d, built in %d ms%n",
+                index.getZoneCount(), index.getCellCount(), index.getBoundaryCellCount(),
+                (System.nanoTime() - started) / 1_000_000);
+        double[] latitudes = new double[points];
+        double[] longitudes = new double[points];
+        double minLatitude = arguments.getDouble("min-latitude", MIN_LATITUDE);
+        double latitudeRange = arguments.getDouble("max-latitude", MAX_LATITUDE) - minLatitude;
+        double minLongitude = arguments.getDouble("min-longitude", MIN_LONGITUDE);
+        double longitudeRange = arguments.getDouble("max-longitude", MAX_LONGITUDE)
+                - minLongitude;
+        Random random = new Random(arguments.getLong("seed", 42));
+        for (int i = 0; i < points; i++) {
+            latitudes[i] = minLatitude + random.nextDouble() * latitudeRange;
+            longitudes[i] = minLongitude + random.nextDouble() * longitudeRange;
+        }
+        verify(index, polygons, latitudes, longitudes);
+        System.out.printf("%-10s %12s %16s%n", "lookup", "ns/point", "points/s");
+        for (int i = 0; i < iterations; i++) {
+            boolean report = i == iterations - 1;
+            measure("polygons", report, points, () -> {
+                long checksum = 0;
+                for (int p = 0; p < points; p++) {
+                    checksum += scan(polygons, latitudes[p], longitudes[p]);
+                }
+                return checksum;
+            });
+            measure("grid", report, points, () -> {
+                long checksum = 0;
+                for (int p = 0; p < points; p++) {
+                    checksum += index.zoneOf(latitudes[p], longitudes[p]);
+                }
+                return checksum;
+            });
+        }
+        System.out.println("checksum " + sink);
+    }
+
+    private void verify(ZoneIndex index, Polygon[] polygons, double[] latitudes,
+                        double[] longitudes) {
+        for (int p = 0; p < latitudes.length; p++) {
+            int expected = scan(polygons, latitudes[p], longitudes[p]);
+            int actual = index.zoneOf(latitudes[p], longitudes[p]);
+            if (expected != actual) {
+                throw new IllegalStateException("Point " + latitudes[p] + " " + longitudes[p]
+                        + " is in zone " + expected + " but the grid says " + actual);
+            }
+        }
+    }
+
+    private void measure(String name, boolean report, int points, Lookup lookup) {
+        long start = System.nanoTime();
+        sink += lookup.run();
+        long elapsed = System.nanoTime() - start;
+        if (report) {
+            System.out.printf("%-10s %12.1f %,16.0f%n", name, elapsed / (double) points,
+                    points * 1e9 / elapsed);
+        }
+    }
+
+    private static int scan(Polygon[] polygons, double latitude, double longitude) {
+        for (int zone = 0; zone < polygons.length; zone++) {
+            if (polygons[zone].contains(latitude, longitude)) {
+                return zone;
+            }
+        }
+        return ZoneIndex.NO_ZONE;
+    }
+
+    private interface Lookup {
+        long run();
+    }
+}